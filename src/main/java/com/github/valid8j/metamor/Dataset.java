@@ -3,6 +3,7 @@ package com.github.valid8j.metamor;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -41,44 +42,68 @@ public interface Dataset<E> extends Iterable<E> {
 
     Dataset<E> close();
 
+    /**
+     * An on-going dataset that shares its elements with the dataset it is created from.
+     *
+     * Datasets created from one another share one backing list, each of which sees only its first `size` elements.
+     * An element added to the dataset that has seen all the elements of the backing list is appended to it in place.
+     * Otherwise, i.e., if the backing list has been extended by another dataset, the elements are copied before the addition.
+     * Thus, creating a dataset from an on-going one costs O(1), as long as the one extended is the latest.
+     */
     class Impl<E> extends Base<E> implements OnGoing<E> {
-      final List<E> content;
+      List<E> content;
+      int     size;
 
       public Impl(String name) {
         super(name);
         this.content = new ArrayList<>();
+        this.size = 0;
       }
 
+      @SuppressWarnings("unchecked")
       public Impl(String name, Dataset<E> content) {
-        this(name);
-        for (int i = 0; i < content.size(); i++)
-          this.add(content.get(i));
+        super(name);
+        if (content instanceof Impl) {
+          this.content = ((Impl<E>) content).content;
+          this.size = content.size();
+        } else {
+          this.content = new ArrayList<>();
+          for (int i = 0; i < content.size(); i++)
+            this.content.add(content.get(i));
+          this.size = this.content.size();
+        }
       }
 
       @Override
       public E get(int i) {
+        if (i >= this.size)
+          throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + this.size);
         return this.content.get(i);
       }
 
       @Override
       public int size() {
-        return this.content.size();
+        return this.size;
       }
 
       @Override
       public OnGoing<E> add(E value) {
+        if (this.size != this.content.size())
+          this.content = new ArrayList<>(this.content.subList(0, this.size));
         this.content.add(value);
+        this.size++;
         return this;
       }
 
       @Override
       public Dataset<E> close() {
-        return new Closed.Impl<>(this.name(), this.content);
+        return new Closed.Impl<>(this.name(), new ArrayList<>(this.content.subList(0, this.size)));
       }
 
       @Override
       public Iterator<E> iterator() {
-        return this.content.iterator();
+        List<E> content = this.content;
+        return IntStream.range(0, this.size).mapToObj(content::get).iterator();
       }
 
       @Override
@@ -8,23 +8,23 @@ import java.io.PrintStream;
 public enum DebuggingUtils {
   ;
 
-  static <T, R> void printIo(String x, EvaluableIo<T, ? extends Evaluable<T>, R> io) {
-    if (isDebugLogEnabled())
+  static <T, R> void printIo(EvaluationContext<?> evaluationContext, String x, EvaluableIo<T, ? extends Evaluable<T>, R> io) {
+    if (evaluationContext.settings.debugLogEnabled)
       System.err.println(x + ":" + io.evaluableType() + ":" + io.evaluable() + "(" + io.input() + ")=" + io.output());
   }
 
-  static <T> void printInput(String x, Evaluable<T> evaluable, ValueHolder<T> input) {
-    if (isDebugLogEnabled())
+  static <T> void printInput(EvaluationContext<?> evaluationContext, String x, Evaluable<T> evaluable, ValueHolder<T> input) {
+    if (evaluationContext.settings.debugLogEnabled)
       System.err.println(x + ":" + evaluable + "(" + input + ")");
   }
 
-  static <T, R> void printInputAndOutput(Evaluable<T> evaluable, ValueHolder<T> input, ValueHolder<R> output) {
-    if (isDebugLogEnabled())
+  static <T, R> void printInputAndOutput(EvaluationContext<?> evaluationContext, Evaluable<T> evaluable, ValueHolder<T> input, ValueHolder<R> output) {
+    if (evaluationContext.settings.debugLogEnabled)
       System.err.println("TRANSFORMATION:AFTER" + ":" + evaluable + "(" + input + ")=" + output);
   }
 
   static <T> void printTo(EvaluationContext<T> evaluationContext, PrintStream ps, int indent) {
-    if (isDebugLogEnabled()) {
+    if (evaluationContext.settings.debugLogEnabled) {
       ps.println(InternalUtils.indent(indent) + "context=<" + evaluationContext + ">");
       for (Object each : evaluationContext.resultEntries()) {
         ps.println(InternalUtils.indent(indent + 1) + each);
@@ -23,7 +23,7 @@ public class EvaluableIo<I, E extends Evaluable<I>, O> {
   }
 
   public void output(ValueHolder<O> output) {
-    this.output = requireNonNull(output).clone();
+    this.output = requireNonNull(output);
   }
 
   public ValueHolder<I> input() {
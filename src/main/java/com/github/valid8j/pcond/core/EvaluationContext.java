@@ -1,10 +1,15 @@
 package com.github.valid8j.pcond.core;
 
+import com.github.valid8j.pcond.core.printable.PrintableFunctionFactory;
+
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -15,18 +20,121 @@ import static java.util.Objects.requireNonNull;
  */
 
 public class EvaluationContext<T> {
-  final List<EvaluationEntry> evaluationEntries = new LinkedList<>();
-  final List<EvaluationEntry> visitorLineage    = new LinkedList<>();
+  /**
+   * Arenas larger than this are not kept for reuse, so that a huge evaluation doesn't pin its memory to a thread.
+   */
+  private static final int                MAX_REUSABLE_ARENA_CAPACITY = 4096;
+  private static final ThreadLocal<Arena> REUSABLE_ARENA              = ThreadLocal.withInitial(Arena::new);
+
+  final Arena                 arena;
+  final int                   frame;
+  final EvaluationSettings    settings;
+  /**
+   * The depth of the forms entered by this context in the entire evaluation tree, which is reported to an {@link EvaluationListener}.
+   */
+  final int                   baseDepth;
+  final List<EvaluationEntry> visitorLineage = new ArrayList<>();
 
   boolean expectationFlipped = false;
 
   public EvaluationContext() {
+    this(EvaluationSettings.current());
+  }
+
+  public EvaluationContext(EvaluationSettings settings) {
+    this(new Arena(), settings);
   }
 
   public EvaluationContext(EvaluationContext<?> parent) {
+    this.arena = parent.arena;
+    this.frame = this.arena.openFrame(parent.frame);
+    this.settings = parent.settings;
+    this.baseDepth = parent.currentDepth();
+    this.expectationFlipped = parent.isExpectationFlipped();
+  }
+
+  /**
+   * Creates a child context of `parent`, which records its entries in a given `arena` instead of the parent's.
+   * Entries of a context created by this constructor are imported into the parent by copying.
+   *
+   * @param parent A parent context.
+   * @param arena  A storage for the new context, which must not be used by other contexts at the same time.
+   */
+  EvaluationContext(EvaluationContext<?> parent, Arena arena) {
+    this(arena, parent.settings, parent.currentDepth());
     this.expectationFlipped = parent.isExpectationFlipped();
   }
 
+  private EvaluationContext(Arena arena, EvaluationSettings settings) {
+    this(arena, settings, 0);
+  }
+
+  private EvaluationContext(Arena arena, EvaluationSettings settings, int baseDepth) {
+    this.arena = arena;
+    this.frame = arena.openFrame(-1);
+    this.settings = requireNonNull(settings);
+    this.baseDepth = baseDepth;
+  }
+
+  /**
+   * Returns a new root context, whose storage is reused across evaluations on the current thread.
+   * A context returned by this method must be released by {@link EvaluationContext#release()} after
+   * its result entries are retrieved.
+   * If the thread's storage is already used by an on-going evaluation (e.g., a nested validation
+   * invoked from a predicate), a context with fresh storage is returned.
+   *
+   * @param <T> The type of the value to be evaluated.
+   * @return A new root context.
+   */
+  public static <T> EvaluationContext<T> forCurrentThread() {
+    return forCurrentThread(EvaluationSettings.current());
+  }
+
+  /**
+   * Returns a new root context, which evaluates forms with the given `settings`.
+   *
+   * @param settings Settings with which forms are evaluated in the returned context and its descendants.
+   * @param <T>      The type of the value to be evaluated.
+   * @return A new root context.
+   * @see EvaluationContext#forCurrentThread()
+   */
+  public static <T> EvaluationContext<T> forCurrentThread(EvaluationSettings settings) {
+    Arena arena = REUSABLE_ARENA.get();
+    if (arena.inUse)
+      return new EvaluationContext<>(settings);
+    arena.inUse = true;
+    return new EvaluationContext<>(arena, settings);
+  }
+
+  /**
+   * Releases the storage of this context so that it can be reused by a next evaluation on the thread.
+   * Entries already returned by {@link EvaluationContext#resultEntries()} are not affected.
+   * This method must be called only on a root context.
+   */
+  public void release() {
+    assert this.frame == 0 : "Only a root context can be released.";
+    if (!this.arena.inUse)
+      return;
+    this.arena.clear();
+    if (this.arena.entries.length > MAX_REUSABLE_ARENA_CAPACITY)
+      REUSABLE_ARENA.remove();
+  }
+
+  public EvaluationSettings settings() {
+    return this.settings;
+  }
+
+  /**
+   * Returns `true` if entries recorded in this context should compute their explanations lazily,
+   * i.e., only when they are asked for them.
+   *
+   * @return `true` if lazy entries are requested.
+   * @see EvaluationEntry.Impl
+   */
+  public boolean isLazyEntriesRequested() {
+    return this.settings.lazyEntries;
+  }
+
   /**
    * @param evaluableIo       An object to hold a form and its I/O.
    * @param evaluatorCallback A callback that executes a logic specific to the {@code evaluable}.
@@ -45,12 +153,31 @@ public class EvaluationContext<T> {
 
   public <E extends Evaluable<T>, O> void evaluate(EvaluationEntry.Type type, String formName, EvaluableIo<T, E, O> evaluableIo, Function<EvaluableIo<T, E, O>, ValueHolder<O>> function) {
     requireNonNull(evaluableIo);
+    EvaluationListener listener = this.settings.listener;
+    if (listener != null) {
+      evaluateWithListener(listener, type, formName, evaluableIo, function);
+      return;
+    }
     EvaluableIo<T, E, O> evaluableIoWork = this.enter(evaluableIo.input(), type, formName, evaluableIo.evaluable());
     this.leave(evaluableIoWork, function.apply(evaluableIoWork));
     DebuggingUtils.printTo(this, System.err, 1);
     updateEvaluableIo(evaluableIo, evaluableIoWork);
   }
 
+  private <E extends Evaluable<T>, O> void evaluateWithListener(EvaluationListener listener, EvaluationEntry.Type type, String formName, EvaluableIo<T, E, O> evaluableIo, Function<EvaluableIo<T, E, O>, ValueHolder<O>> function) {
+    int depth = currentDepth();
+    listener.enter(formName, type, depth);
+    long startedAt = System.nanoTime();
+    EvaluableIo<T, E, O> evaluableIoWork = this.enter(evaluableIo.input(), type, formName, evaluableIo.evaluable());
+    try {
+      this.leave(evaluableIoWork, function.apply(evaluableIoWork));
+    } finally {
+      listener.leave(formName, type, depth, System.nanoTime() - startedAt);
+    }
+    DebuggingUtils.printTo(this, System.err, 1);
+    updateEvaluableIo(evaluableIo, evaluableIoWork);
+  }
+
   public static String formNameOf(EvaluableIo<?, ?, ?> evaluableIo) {
     return formNameOf(evaluableIo.evaluableType(), evaluableIo.evaluable());
   }
@@ -90,8 +217,9 @@ public class EvaluationContext<T> {
   @SuppressWarnings("unchecked")
   private <E extends Evaluable<T>, O> EvaluableIo<T, E, O> enter(ValueHolder<T> input, EvaluationEntry.Type type, String formName, E evaluable) {
     EvaluableIo<T, Evaluable<T>, O> ret = createEvaluableIo(input, type, formName, evaluable);
-    this.evaluationEntries.add(createEvaluationEntry(this, ret));
-    this.visitorLineage.add(evaluationEntries.get(evaluationEntries.size() - 1));
+    EvaluationEntry entry = createEvaluationEntry(this, ret);
+    this.arena.append(entry, this.frame);
+    this.visitorLineage.add(entry);
     return (EvaluableIo<T, E, O>) ret;
   }
 
@@ -111,20 +239,218 @@ public class EvaluationContext<T> {
     return new EvaluationEntry.Impl(evaluationContext, evaluableIo);
   }
 
+  /**
+   * Returns entries recorded in this context and ones imported from its child contexts.
+   * Levels of the returned entries are relative to this context.
+   *
+   * @return A list of evaluation entries.
+   */
   public List<EvaluationEntry> resultEntries() {
-    return new ArrayList<>(this.evaluationEntries);
+    return this.arena.entriesOf(this.frame);
   }
 
   public <R> void importEntries(EvaluationContext<R> childContext) {
     importEntries(childContext, currentIndentLevel());
   }
 
+  /**
+   * Imports entries of a `childContext` into this context.
+   * When the child shares the storage with this context, which is the case for a child created by
+   * {@link EvaluationContext#EvaluationContext(EvaluationContext)}, this operation takes constant time
+   * because the entries are already in place and only the level gap is recorded.
+   *
+   * @param childContext   A child context whose entries are imported.
+   * @param indentLevelGap A gap of indentation levels between this context and the child.
+   * @param <R>            The type of the value evaluated by the child context.
+   */
   public <R> void importEntries(EvaluationContext<R> childContext, int indentLevelGap) {
-    childContext.evaluationEntries.forEach(each -> each.level += indentLevelGap);
-    this.evaluationEntries.addAll(childContext.resultEntries());
+    if (childContext.arena == this.arena && this.arena.frameParent[childContext.frame] == this.frame)
+      this.arena.importFrame(childContext.frame, indentLevelGap);
+    else
+      importEntries(childContext.resultEntries(), indentLevelGap);
+  }
+
+  /**
+   * Imports `entries` into this context by copying.
+   * Levels of the entries must be relative to the context from which they are returned.
+   *
+   * @param entries        Entries to be imported.
+   * @param indentLevelGap A gap of indentation levels between this context and the entries.
+   */
+  void importEntries(List<EvaluationEntry> entries, int indentLevelGap) {
+    entries.forEach(each -> this.arena.append(each, this.frame, each.level + indentLevelGap));
   }
 
   public int currentIndentLevel() {
     return this.visitorLineage.size();
   }
+
+  int currentDepth() {
+    return this.baseDepth + this.visitorLineage.size();
+  }
+
+  /**
+   * Returns a result of a function application memoized in the storage of this context, which is shared by
+   * all the contexts in an evaluation.
+   * If no result is memoized for the pair of `function` and `input`, the result is computed by `application`
+   * and memoized.
+   * Functions are compared by their equality and inputs are compared by their identity.
+   *
+   * @param function    A function applied to `input`.
+   * @param input       An input to `function`.
+   * @param application A supplier that computes the result of the application.
+   * @param <R>         The type of the result.
+   * @return The result of the application.
+   */
+  @SuppressWarnings("unchecked")
+  <R> ValueHolder<R> memoized(Object function, Object input, Supplier<ValueHolder<R>> application) {
+    if (this.arena.memo == null)
+      this.arena.memo = new HashMap<>();
+    FunctionApplication key = new FunctionApplication(function, input);
+    ValueHolder<R> ret = (ValueHolder<R>) this.arena.memo.get(key);
+    if (ret == null) {
+      ret = application.get();
+      this.arena.memo.put(key, ret);
+    }
+    return ret;
+  }
+
+  /**
+   * A key of a memoized function application.
+   * Functions are compared by reference, unless their identities determine their behavior, because functions
+   * created from different lambdas are equal to each other.
+   *
+   * @see PrintableFunctionFactory#isDefinedByIdentity(Function)
+   */
+  private static final class FunctionApplication {
+    final Object  function;
+    final Object  input;
+    final boolean definedByIdentity;
+
+    FunctionApplication(Object function, Object input) {
+      this.function = function;
+      this.input = input;
+      this.definedByIdentity = function instanceof Function && PrintableFunctionFactory.isDefinedByIdentity((Function<?, ?>) function);
+    }
+
+    @Override
+    public int hashCode() {
+      int functionHashCode = this.definedByIdentity ?
+          this.function.hashCode() :
+          System.identityHashCode(this.function);
+      return functionHashCode * 31 + System.identityHashCode(this.input);
+    }
+
+    @Override
+    public boolean equals(Object anotherObject) {
+      if (!(anotherObject instanceof FunctionApplication))
+        return false;
+      FunctionApplication another = (FunctionApplication) anotherObject;
+      if (this.input != another.input)
+        return false;
+      return this.function == another.function ||
+          (this.definedByIdentity && another.definedByIdentity && this.function.equals(another.function));
+    }
+  }
+
+  /**
+   * A storage shared by a root context and all of its descendant contexts.
+   * Entries are appended to a growable array in the order they are entered, and each entry refers
+   * to the "frame" (context) that recorded it by index.
+   * A frame refers to its parent frame by index and holds the level gap given when it is imported
+   * into the parent.
+   * This makes an import a constant time operation and a deep tree can be recorded in linear time
+   * and memory, which used to be quadratic when entries were copied into a parent at every level.
+   *
+   * Note that this relies on the protocol that a child context is imported into its parent before
+   * the parent records a new entry, which is how the {@link Evaluator} uses contexts.
+   */
+  static final class Arena {
+    EvaluationEntry[] entries       = new EvaluationEntry[16];
+    int[]             entryFrame    = new int[16];
+    int[]             entryLevel    = new int[16];
+    int               size          = 0;
+    int[]             frameParent   = new int[8];
+    int[]             frameGap      = new int[8];
+    boolean[]         frameImported = new boolean[8];
+    int               frameCount    = 0;
+    boolean           inUse         = false;
+    /**
+     * Results of function applications, created on demand.
+     */
+    Map<Object, ValueHolder<?>> memo;
+
+    int openFrame(int parent) {
+      if (frameCount == frameParent.length) {
+        int newCapacity = frameCount * 2;
+        frameParent = Arrays.copyOf(frameParent, newCapacity);
+        frameGap = Arrays.copyOf(frameGap, newCapacity);
+        frameImported = Arrays.copyOf(frameImported, newCapacity);
+      }
+      frameParent[frameCount] = parent;
+      frameGap[frameCount] = 0;
+      frameImported[frameCount] = false;
+      return frameCount++;
+    }
+
+    void importFrame(int frame, int gap) {
+      frameGap[frame] = gap;
+      frameImported[frame] = true;
+    }
+
+    void append(EvaluationEntry entry, int frame) {
+      append(entry, frame, entry.level);
+    }
+
+    void append(EvaluationEntry entry, int frame, int level) {
+      if (size == entries.length) {
+        int newCapacity = size * 2;
+        entries = Arrays.copyOf(entries, newCapacity);
+        entryFrame = Arrays.copyOf(entryFrame, newCapacity);
+        entryLevel = Arrays.copyOf(entryLevel, newCapacity);
+      }
+      entries[size] = entry;
+      entryFrame[size] = frame;
+      entryLevel[size] = level;
+      size++;
+    }
+
+    /**
+     * Returns entries visible from a given `frame` with their levels resolved relative to it.
+     * An entry is visible if it was recorded by the frame itself or by a descendant frame whose
+     * ancestors up to the `frame` have all been imported.
+     * Since a frame is always opened after its parent, the visibility and the level offset of
+     * each frame are resolved in a single pass over frames.
+     * Recorded entries are not modified, since they can also be in lists returned before.
+     * An entry whose level differs from the resolved one is returned as a copy at that level.
+     */
+    List<EvaluationEntry> entriesOf(int frame) {
+      int[] offsets = new int[frameCount];
+      boolean[] visible = new boolean[frameCount];
+      visible[frame] = true;
+      for (int i = frame + 1; i < frameCount; i++) {
+        int parent = frameParent[i];
+        if (parent >= frame && visible[parent] && frameImported[i]) {
+          visible[i] = true;
+          offsets[i] = offsets[parent] + frameGap[i];
+        }
+      }
+      List<EvaluationEntry> ret = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        int f = entryFrame[i];
+        if (f >= frame && visible[f]) {
+          ret.add(entries[i].atLevel(entryLevel[i] + offsets[f]));
+        }
+      }
+      return ret;
+    }
+
+    void clear() {
+      Arrays.fill(entries, 0, size, null);
+      size = 0;
+      frameCount = 0;
+      inUse = false;
+      memo = null;
+    }
+  }
 }
@@ -11,6 +11,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import static com.github.valid8j.pcond.core.EvaluationContext.resolveEvaluationEntryType;
 import static com.github.valid8j.pcond.core.Evaluator.Explainable.*;
 import static com.github.valid8j.pcond.core.Evaluator.Impl.EVALUATION_SKIPPED;
+import static com.github.valid8j.pcond.core.Evaluator.Snapshottable.materializeIfDeferred;
 import static com.github.valid8j.pcond.core.Evaluator.Snapshottable.toSnapshotIfPossible;
 import static com.github.valid8j.pcond.core.ValueHolder.CreatorFormType.FUNC_TAIL;
 import static com.github.valid8j.pcond.core.ValueHolder.State.VALUE_RETURNED;
@@ -76,7 +77,7 @@ import static com.github.valid8j.pcond.core.EvaluationEntry.Type.*;
  *
  * // @formatter:on
  */
-public abstract class EvaluationEntry {
+public abstract class EvaluationEntry implements Cloneable {
   private final Type   type;
   /**
    * A name of a form (evaluable; function, predicate)
@@ -131,6 +132,31 @@ public abstract class EvaluationEntry {
     return level;
   }
 
+  /**
+   * Returns an entry which is the same as this one except that it is at a given `level`.
+   * If `level` is this entry's own, this entry itself is returned, otherwise a shallow copy of it is.
+   *
+   * @param level A level of the returned entry.
+   * @return An entry at the `level`.
+   */
+  EvaluationEntry atLevel(int level) {
+    if (level == this.level)
+      return this;
+    EvaluationEntry ret = this.clone();
+    ret.level = level;
+    return ret;
+  }
+
+  @SuppressWarnings("CloneDoesntDeclareCloneNotSupportedException")
+  @Override
+  protected EvaluationEntry clone() {
+    try {
+      return (EvaluationEntry) super.clone();
+    } catch (CloneNotSupportedException e) {
+      throw new AssertionError();
+    }
+  }
+
   public Object inputExpectation() {
     return this.inputExpectation;
   }
@@ -140,7 +166,7 @@ public abstract class EvaluationEntry {
   }
 
   public Object outputExpectation() {
-    return this.outputExpectation;
+    return materializeIfDeferred(this.outputExpectation);
   }
 
   public Object detailOutputExpectation() {
@@ -356,7 +382,7 @@ public abstract class EvaluationEntry {
 
     @Override
     public Object outputActualValue() {
-      return outputActualValue;
+      return materializeIfDeferred(outputActualValue);
     }
 
     @Override
@@ -394,32 +420,52 @@ public abstract class EvaluationEntry {
     );
   }
 
+  /**
+   * An entry created by the {@link Evaluator} through {@link EvaluationContext}.
+   *
+   * If the context requests lazy entries, explanations (`detailXyz` values) are not computed when the entry
+   * is created or finalized, but when they are requested for the first time, typically by a `ReportComposer`
+   * composing a report for a failure.
+   * Since an evaluation that passes doesn't need them, this saves their cost in most cases.
+   * Note that, in this mode, an {@link Evaluator.Explainable} form is asked for its explanations after the
+   * whole evaluation is finished.
+   * To explain the actual behavior with the input as it was, the input is captured when the entry is finalized,
+   * as a snapshot if it is {@link Evaluator.Snapshottable}, so that a later mutation of it doesn't show up in a report.
+   */
   public static class Impl extends EvaluationEntry {
 
     private final EvaluableIo<?, ?, ?> evaluableIo;
     private final boolean              expectationFlipped;
+    private final EvaluationSettings   settings;
     private       boolean              ignored;
 
-    private boolean finalized = false;
+    private boolean finalized           = false;
+    private boolean detailsMaterialized = false;
     private Object  outputActualValue;
     private Object  detailOutputActualValue;
+    /**
+     * The input captured on finalization to explain the actual behavior lazily.
+     * `null` unless lazy entries are requested.
+     */
+    private Object  finalizedInput;
 
     <T, E extends Evaluable<T>> Impl(
         EvaluationContext<T> evaluationContext,
         EvaluableIo<T, E, ?> evaluableIo) {
       super(
-          EvaluationContext.formNameOf(evaluableIo),
+          evaluableIo.formName(),
           evaluableIo.evaluableType(),
           evaluationContext.visitorLineage.size(),
           computeInputExpectation(evaluableIo),                   // inputExpectation        == inputActualValue
-          explainInputExpectation(evaluableIo),                   // detailInputExpectation  == detailInputActualValue
+          evaluationContext.isLazyEntriesRequested() ? null : explainInputExpectation(evaluableIo),                   // detailInputExpectation  == detailInputActualValue
           null, // not necessary                                  // outputExpectation
-          explainOutputExpectation(evaluableIo.evaluable(), evaluableIo),      // detailOutputExpectation
+          evaluationContext.isLazyEntriesRequested() ? null : explainOutputExpectation(evaluableIo.evaluable(), evaluableIo),      // detailOutputExpectation
           computeInputActualValue(evaluableIo),                   // inputActualValue
-          explainInputActualValue(evaluableIo.evaluable(), computeInputActualValue(evaluableIo)), // detailInputActualValue
+          evaluationContext.isLazyEntriesRequested() ? null : explainInputActualValue(evaluableIo.evaluable(), computeInputActualValue(evaluableIo)), // detailInputActualValue
           evaluableIo.evaluable().isSquashable());
       this.evaluableIo = evaluableIo;
       this.expectationFlipped = evaluationContext.isExpectationFlipped();
+      this.settings = evaluationContext.settings();
       this.ignored = false;
     }
 
@@ -443,18 +489,31 @@ public abstract class EvaluationEntry {
 
     public Object outputExpectation() {
       assert finalized;
-      return outputExpectation;
+      return this.outputExpectation = materializeIfDeferred(this.outputExpectation);
     }
 
     @Override
     public Object outputActualValue() {
       assert finalized;
-      return outputActualValue;
+      return this.outputActualValue = materializeIfDeferred(this.outputActualValue);
+    }
+
+    @Override
+    public Object detailInputExpectation() {
+      materializeDetailsIfNecessary();
+      return this.detailInputExpectation;
+    }
+
+    @Override
+    public Object detailOutputExpectation() {
+      materializeDetailsIfNecessary();
+      return this.detailOutputExpectation;
     }
 
     @Override
     public Object detailOutputActualValue() {
       assert finalized;
+      materializeDetailsIfNecessary();
       return detailOutputActualValue;
     }
 
@@ -470,7 +529,7 @@ public abstract class EvaluationEntry {
     }
 
     public String formName() {
-      if (DebuggingUtils.showEvaluableDetail())
+      if (this.settings.showEvaluableDetail)
         return evaluableIo.formName() + "(" +
             evaluableIo.evaluableType() + ":" +
             evaluableIo.input().creatorFormType() + ":" +
@@ -482,13 +541,33 @@ public abstract class EvaluationEntry {
     public void finalizeValues() {
       this.outputExpectation = computeOutputExpectation(evaluableIo(), expectationFlipped);
       this.outputActualValue = computeOutputActualValue(evaluableIo());
-      this.detailOutputActualValue = explainActual(evaluableIo());
+      if (!this.settings.lazyEntries)
+        this.detailOutputActualValue = explainActual(evaluableIo());
+      else
+        this.finalizedInput = toSnapshotIfPossible(evaluableIo().input().value());
       this.ignored =
           (this.evaluableIo.evaluableType() == TRANSFORM_AND_CHECK && this.evaluableIo.formName().equals("transformAndCheck")) ||
               (this.evaluableIo.evaluableType() == FUNCTION && this.evaluableIo.output().creatorFormType() == FUNC_TAIL);
       this.finalized = true;
     }
 
+    private void materializeDetailsIfNecessary() {
+      if (!this.settings.lazyEntries || this.detailsMaterialized)
+        return;
+      this.detailInputExpectation = explainInputExpectation(evaluableIo());
+      this.detailOutputExpectation = explainOutputExpectation(evaluableIo.evaluable(), evaluableIo);
+      this.detailInputActualValue = explainInputActualValue(evaluableIo.evaluable(), this.inputActualValue);
+      if (!this.finalized)
+        return;
+      this.detailOutputActualValue = explainActual(evaluableIo(), inputFromSnapshot(this.finalizedInput));
+      this.detailsMaterialized = true;
+    }
+
+    private static Object inputFromSnapshot(Object snapshot) {
+      Object ret = materializeIfDeferred(snapshot);
+      return ret == Evaluator.Snapshottable.NULL ? null : ret;
+    }
+
     @Override
     public String toString() {
       return String.format("%s(%s)=%s (expected:=%s):%s", formName(), inputActualValue(), finalized ? outputActualValue() : "(n/a)", finalized ? outputExpectation() : "(n/a)", this.level());
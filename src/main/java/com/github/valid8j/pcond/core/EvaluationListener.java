@@ -0,0 +1,35 @@
+package com.github.valid8j.pcond.core;
+
+/**
+ * A listener notified when the {@link Evaluator} enters and leaves each form of a predicate.
+ *
+ * A listener can be registered by {@link com.github.valid8j.pcond.validator.Validator.Configuration.Builder#evaluationListener(EvaluationListener)}.
+ * When no listener is registered, the evaluator doesn't even read the clock.
+ * Note that a listener is not notified when a value is tested without the evaluator, e.g., the first phase of
+ * {@link com.github.valid8j.pcond.validator.Validator.Configuration#useEvaluatorOnlyOnFailure()}.
+ *
+ * Methods of a listener are called on the thread that evaluates a predicate, and therefore a listener shared by
+ * multiple threads must be thread-safe.
+ */
+public interface EvaluationListener {
+  /**
+   * Called when the evaluator enters a form.
+   *
+   * @param formName The name of the form.
+   * @param type     The type of the form.
+   * @param depth    The depth of the form in the evaluated tree. The root form is at `0`.
+   */
+  default void enter(String formName, EvaluationEntry.Type type, int depth) {
+  }
+
+  /**
+   * Called when the evaluator leaves a form.
+   *
+   * @param formName     The name of the form.
+   * @param type         The type of the form.
+   * @param depth        The depth of the form in the evaluated tree. The root form is at `0`.
+   * @param elapsedNanos Time spent for the form, including the ones for its descendants, in nanoseconds.
+   */
+  default void leave(String formName, EvaluationEntry.Type type, int depth, long elapsedNanos) {
+  }
+}
@@ -0,0 +1,479 @@
+package com.github.valid8j.pcond.core;
+
+import com.github.valid8j.pcond.core.printable.PrintableFunction;
+import com.github.valid8j.pcond.core.printable.PrintablePredicate;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.DoubleComparison;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.DoubleRange;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.IntComparison;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.IntRange;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.LongComparison;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.LongRange;
+import com.github.valid8j.pcond.internals.InternalUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A "compiled" form of an {@link Evaluable} tree.
+ *
+ * An evaluable tree (conjunctions, disjunctions, negations, transformations, functions, and leaves)
+ * is flattened into an array of instructions once, and then the array is interpreted for each value to be tested.
+ * Unlike the {@link Evaluator}, a plan doesn't record an evaluation history and doesn't allocate any
+ * objects by itself during an evaluation.
+ * This is used when only the result (`true` or `false`) of a test is necessary, e.g., the first
+ * phase of a check, where the report is composed only when the check fails.
+ *
+ * A plan is immutable and therefore can be shared among calls and threads.
+ * An adaptive plan (see {@link EvaluationPlan#compile(Evaluable, boolean)}) is an exception, where the order
+ * of children of "shortcut" junctions changes based on their profiles, but it can still be shared.
+ *
+ * @param <T> The type of the value tested by this plan.
+ */
+public final class EvaluationPlan<T> implements Predicate<T> {
+  enum OpCode {
+    /**
+     * Tests the value with {@link Instruction#predicate}.
+     */
+    LEAF,
+    /**
+     * Tests the `int` value of the value with {@link Instruction#primitivePredicate}, which is an {@link IntPredicate}.
+     */
+    INT_LEAF,
+    /**
+     * Tests the `long` value of the value with {@link Instruction#primitivePredicate}, which is a {@link LongPredicate}.
+     */
+    LONG_LEAF,
+    /**
+     * Tests the `double` value of the value with {@link Instruction#primitivePredicate}, which is a {@link DoublePredicate}.
+     */
+    DOUBLE_LEAF,
+    /**
+     * Tests the value with predicates at {@link Instruction#operands} until one of them returns `false`.
+     */
+    AND,
+    /**
+     * Tests the value with predicates at {@link Instruction#operands} until one of them returns `true`.
+     */
+    OR,
+    /**
+     * Negates the result of a predicate at the first operand.
+     */
+    NOT,
+    /**
+     * Applies a function at the first operand and tests the result with a predicate at the second.
+     */
+    TRANSFORM,
+    /**
+     * Tests elements of a stream with a predicate at the first operand.
+     */
+    STREAM,
+    /**
+     * Applies {@link Instruction#function} and then a function at the first operand, if it is not negative.
+     */
+    FUNCTION,
+  }
+
+  private static final int[] NO_OPERANDS = new int[0];
+
+  private final Instruction[] instructions;
+
+  private EvaluationPlan(Instruction[] instructions) {
+    this.instructions = instructions;
+  }
+
+  /**
+   * Tests a given value with this plan.
+   * An exception thrown by a predicate or a function in the plan is passed through to the caller,
+   * just as {@link Predicate#test(Object)} of the original predicate does.
+   *
+   * @param value The value to be tested.
+   * @return The result of the test.
+   */
+  @Override
+  public boolean test(T value) {
+    return testAt(0, value);
+  }
+
+  /**
+   * Returns the number of instructions in this plan.
+   *
+   * @return The number of instructions.
+   */
+  public int size() {
+    return this.instructions.length;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < instructions.length; i++)
+      b.append(String.format("%3d: %s%n", i, instructions[i]));
+    return b.toString();
+  }
+
+  /**
+   * Returns a plan for a given predicate.
+   * If the predicate is a {@link PrintablePredicate}, a plan cached by the object is returned.
+   *
+   * @param predicate A predicate for which a plan is returned.
+   * @param <T>       The type of the value tested by the predicate.
+   * @return A plan for the `predicate`.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Predicate<T> planFor(Predicate<? super T> predicate) {
+    if (predicate instanceof PrintablePredicate)
+      return ((PrintablePredicate<T>) predicate).evaluationPlan();
+    return (Predicate<T>) predicate;
+  }
+
+  /**
+   * Returns a plan for a given predicate, which is compiled from its optimized form if `optimized` is `true`.
+   *
+   * @param predicate A predicate for which a plan is returned.
+   * @param optimized `true` to compile the optimized form of the `predicate`.
+   * @param <T>       The type of the value tested by the predicate.
+   * @return A plan for the `predicate`.
+   * @see PrintablePredicate#optimized()
+   */
+  public static <T> Predicate<T> planFor(Predicate<? super T> predicate, boolean optimized) {
+    return planFor(optimized ? optimizedFormOf(predicate) : predicate);
+  }
+
+  /**
+   * Returns a plan for a given evaluable.
+   * If the evaluable is a {@link PrintablePredicate}, a plan cached by the object is returned.
+   * Otherwise, the evaluable is compiled.
+   *
+   * @param evaluable An evaluable for which a plan is returned.
+   * @param <T>       The type of the value tested by the evaluable.
+   * @return A plan for the `evaluable`.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> EvaluationPlan<T> planOf(Evaluable<T> evaluable) {
+    if (evaluable instanceof PrintablePredicate)
+      return ((PrintablePredicate<T>) evaluable).evaluationPlan();
+    return compile(evaluable);
+  }
+
+  /**
+   * Returns an adaptive plan for a given predicate.
+   * If the predicate is a {@link PrintablePredicate}, a plan cached by the object is returned.
+   *
+   * @param predicate A predicate for which a plan is returned.
+   * @param <T>       The type of the value tested by the predicate.
+   * @return An adaptive plan for the `predicate`.
+   * @see EvaluationPlan#compile(Evaluable, boolean)
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Predicate<T> adaptivePlanFor(Predicate<? super T> predicate) {
+    if (predicate instanceof PrintablePredicate)
+      return ((PrintablePredicate<T>) predicate).adaptiveEvaluationPlan();
+    return (Predicate<T>) predicate;
+  }
+
+  /**
+   * Returns an adaptive plan for a given predicate, which is compiled from its optimized form if `optimized` is `true`.
+   *
+   * @param predicate A predicate for which a plan is returned.
+   * @param optimized `true` to compile the optimized form of the `predicate`.
+   * @param <T>       The type of the value tested by the predicate.
+   * @return An adaptive plan for the `predicate`.
+   * @see PrintablePredicate#optimized()
+   */
+  public static <T> Predicate<T> adaptivePlanFor(Predicate<? super T> predicate, boolean optimized) {
+    return adaptivePlanFor(optimized ? optimizedFormOf(predicate) : predicate);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Predicate<? super T> optimizedFormOf(Predicate<? super T> predicate) {
+    if (predicate instanceof PrintablePredicate)
+      return ((PrintablePredicate<T>) predicate).optimized();
+    return predicate;
+  }
+
+  /**
+   * Compiles a given evaluable into a plan.
+   *
+   * @param evaluable An evaluable to be compiled.
+   * @param <T>       The type of the value tested by the evaluable.
+   * @return A compiled plan.
+   */
+  public static <T> EvaluationPlan<T> compile(Evaluable<T> evaluable) {
+    return compile(evaluable, false);
+  }
+
+  /**
+   * Compiles a given evaluable into a plan.
+   *
+   * If `adaptive` is `true`, children of "shortcut" junctions in the plan are profiled and reordered so that
+   * cheap and selective ones are tested first (see {@link JunctionProfile}).
+   * The result of such a plan is the same as the original as long as the children are free of side effects
+   * and don't throw exceptions.
+   * Note that a child may be tested before a preceding sibling that guards it (e.g., `isNotNull()`), and
+   * an exception that the original would not throw can be thrown.
+   * Therefore, an adaptive plan should be used only where such an exception is tolerated, e.g., the first
+   * phase of the "evaluator only on failure" mode, where a failure is replayed in the declared order.
+   *
+   * @param evaluable An evaluable to be compiled.
+   * @param adaptive  `true` to reorder children of shortcut junctions adaptively.
+   * @param <T>       The type of the value tested by the evaluable.
+   * @return A compiled plan.
+   */
+  public static <T> EvaluationPlan<T> compile(Evaluable<T> evaluable, boolean adaptive) {
+    List<Instruction> instructions = new ArrayList<>();
+    compilePredicate(instructions, requireNonNull(evaluable), adaptive);
+    return new EvaluationPlan<>(instructions.toArray(new Instruction[0]));
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean testAt(int pc, Object value) {
+    Instruction instruction = this.instructions[pc];
+    switch (instruction.opCode) {
+    case LEAF:
+      return instruction.predicate.test(value);
+    case INT_LEAF:
+      return ((IntPredicate) instruction.primitivePredicate).test(((Number) value).intValue());
+    case LONG_LEAF:
+      return ((LongPredicate) instruction.primitivePredicate).test(((Number) value).longValue());
+    case DOUBLE_LEAF:
+      return ((DoublePredicate) instruction.primitivePredicate).test(((Number) value).doubleValue());
+    case AND:
+      if (instruction.profile != null)
+        return testAdaptively(instruction, value);
+      for (int each : instruction.operands)
+        if (!testAt(each, value))
+          return false;
+      return true;
+    case OR:
+      if (instruction.profile != null)
+        return testAdaptively(instruction, value);
+      for (int each : instruction.operands)
+        if (testAt(each, value))
+          return true;
+      return false;
+    case NOT:
+      return !testAt(instruction.operands[0], value);
+    case TRANSFORM:
+      return testAt(instruction.operands[1], applyAt(instruction.operands[0], value));
+    case STREAM:
+      int cut = instruction.operands[0];
+      boolean valueToCut = instruction.valueToCut;
+      return ((Stream<Object>) value).anyMatch(e -> testAt(cut, e) == valueToCut) != instruction.defaultValue;
+    default:
+      throw new AssertionError("Not a predicate instruction: " + instruction);
+    }
+  }
+
+  private boolean testAdaptively(Instruction instruction, Object value) {
+    JunctionProfile profile = instruction.profile;
+    int[] order = profile.order();
+    try {
+      return profile.shouldSample() ?
+          testAndRecordInOrder(instruction, value, order) :
+          testInOrder(instruction, value, order);
+    } catch (RuntimeException e) {
+      if (profile.isDeclaredOrder(order))
+        throw e;
+      // A child moved ahead of another may depend on it, e.g., `s -> s.length() > 0` guarded by `isNotNull()`.
+      profile.pinDeclaredOrder();
+      return testInOrder(instruction, value, profile.order());
+    }
+  }
+
+  private boolean testInOrder(Instruction instruction, Object value, int[] order) {
+    boolean decisiveValue = instruction.profile.decisiveValue();
+    for (int each : order)
+      if (testAt(instruction.operands[each], value) == decisiveValue)
+        return decisiveValue;
+    return !decisiveValue;
+  }
+
+  /*
+   * Tests children just as `testInOrder` does, so that no child after the one deciding the result is tested.
+   * If a child throws an exception, the sample is abandoned.
+   */
+  private boolean testAndRecordInOrder(Instruction instruction, Object value, int[] order) {
+    JunctionProfile profile = instruction.profile;
+    boolean decisiveValue = profile.decisiveValue();
+    for (int each : order) {
+      long before = System.nanoTime();
+      boolean decisive = testAt(instruction.operands[each], value) == decisiveValue;
+      profile.record(each, System.nanoTime() - before, decisive);
+      if (decisive) {
+        profile.endSample();
+        return decisiveValue;
+      }
+    }
+    profile.endSample();
+    return !decisiveValue;
+  }
+
+  private Object applyAt(int pc, Object value) {
+    Object ret = value;
+    for (int i = pc; i >= 0; ) {
+      Instruction instruction = this.instructions[i];
+      assert instruction.opCode == OpCode.FUNCTION : instruction;
+      ret = instruction.function.apply(ret);
+      i = instruction.operands[0];
+    }
+    return ret;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static int compilePredicate(List<Instruction> out, Evaluable<?> evaluable, boolean adaptive) {
+    Instruction primitiveLeaf = primitiveLeaf(evaluable);
+    if (primitiveLeaf != null)
+      return emit(out, primitiveLeaf);
+    if (evaluable instanceof Evaluable.LeafPred)
+      return emit(out, Instruction.leaf((Predicate<Object>) ((Evaluable.LeafPred<?>) evaluable).predicate()));
+    if (evaluable instanceof Evaluable.Conjunction || evaluable instanceof Evaluable.Disjunction) {
+      int ret = emit(out, null);
+      List<? extends Evaluable<?>> children = ((Evaluable.Composite<?>) evaluable).children();
+      int[] operands = new int[children.size()];
+      for (int i = 0; i < operands.length; i++)
+        operands[i] = compilePredicate(out, children.get(i), adaptive);
+      boolean conjunction = evaluable instanceof Evaluable.Conjunction;
+      JunctionProfile profile = adaptive && operands.length > 1 && ((Evaluable.Composite<?>) evaluable).shortcut() ?
+          new JunctionProfile(operands.length, !conjunction) :
+          null;
+      out.set(ret, Instruction.junction(conjunction ? OpCode.AND : OpCode.OR, operands, profile));
+      return ret;
+    }
+    if (evaluable instanceof Evaluable.Negation) {
+      int ret = emit(out, null);
+      out.set(ret, new Instruction(OpCode.NOT, new int[] { compilePredicate(out, ((Evaluable.Negation<?>) evaluable).target(), adaptive) }, null, null));
+      return ret;
+    }
+    if (evaluable instanceof Evaluable.Transformation) {
+      Evaluable.Transformation<?, ?> transformation = (Evaluable.Transformation<?, ?>) evaluable;
+      if (InternalUtils.isDummyFunction((Function<?, ?>) transformation.mapper()))
+        return compilePredicate(out, transformation.checker(), adaptive);
+      int ret = emit(out, null);
+      int mapper = compileFunction(out, transformation.mapper());
+      int checker = compilePredicate(out, transformation.checker(), adaptive);
+      out.set(ret, new Instruction(OpCode.TRANSFORM, new int[] { mapper, checker }, null, null));
+      return ret;
+    }
+    if (evaluable instanceof Evaluable.StreamPred) {
+      Evaluable.StreamPred<?> streamPred = (Evaluable.StreamPred<?>) evaluable;
+      int ret = emit(out, null);
+      out.set(ret, Instruction.stream(compilePredicate(out, streamPred.cut(), adaptive), streamPred.valueToCut(), streamPred.defaultValue()));
+      return ret;
+    }
+    if (evaluable instanceof Predicate)
+      // CurriedContextPred and unknown predicate forms are tested as they are.
+      return emit(out, Instruction.leaf((Predicate) evaluable));
+    throw new IllegalArgumentException("Not a predicate: " + evaluable);
+  }
+
+  /**
+   * Returns an instruction that calls a primitive overload of `test` method of a comparison or a range specialized for
+   * a primitive type, so that neither the value is boxed again nor the generic predicate is called.
+   *
+   * @param evaluable An evaluable to be compiled.
+   * @return An instruction or `null`, if `evaluable` is not specialized for a primitive type.
+   */
+  private static Instruction primitiveLeaf(Evaluable<?> evaluable) {
+    if (evaluable instanceof IntComparison)
+      return Instruction.primitiveLeaf(OpCode.INT_LEAF, (IntPredicate) ((IntComparison<?>) evaluable)::test);
+    if (evaluable instanceof IntRange)
+      return Instruction.primitiveLeaf(OpCode.INT_LEAF, (IntPredicate) ((IntRange<?>) evaluable)::test);
+    if (evaluable instanceof LongComparison)
+      return Instruction.primitiveLeaf(OpCode.LONG_LEAF, (LongPredicate) ((LongComparison<?>) evaluable)::test);
+    if (evaluable instanceof LongRange)
+      return Instruction.primitiveLeaf(OpCode.LONG_LEAF, (LongPredicate) ((LongRange<?>) evaluable)::test);
+    if (evaluable instanceof DoubleComparison)
+      return Instruction.primitiveLeaf(OpCode.DOUBLE_LEAF, (DoublePredicate) ((DoubleComparison<?>) evaluable)::test);
+    if (evaluable instanceof DoubleRange)
+      return Instruction.primitiveLeaf(OpCode.DOUBLE_LEAF, (DoublePredicate) ((DoubleRange<?>) evaluable)::test);
+    return null;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static int compileFunction(List<Instruction> out, Evaluable<?> evaluable) {
+    if (evaluable instanceof Evaluable.Func) {
+      Evaluable.Func<?> func = (Evaluable.Func<?>) evaluable;
+      int ret = emit(out, null);
+      int tail = func.tail().map(t -> compileFunction(out, t)).orElse(-1);
+      out.set(ret, Instruction.function(PrintableFunction.unwrap((Function) func.head()), tail));
+      return ret;
+    }
+    if (evaluable instanceof Function)
+      return emit(out, Instruction.function((Function<Object, Object>) evaluable, -1));
+    throw new IllegalArgumentException("Not a function: " + evaluable);
+  }
+
+  private static int emit(List<Instruction> out, Instruction instruction) {
+    out.add(instruction);
+    return out.size() - 1;
+  }
+
+  static final class Instruction {
+    final OpCode                   opCode;
+    final int[]                    operands;
+    final Predicate<Object>        predicate;
+    /**
+     * An {@link IntPredicate}, a {@link LongPredicate}, or a {@link DoublePredicate} depending on {@link Instruction#opCode}.
+     */
+    final Object                   primitivePredicate;
+    final Function<Object, Object> function;
+    final boolean                  valueToCut;
+    final boolean                  defaultValue;
+    final JunctionProfile          profile;
+
+    Instruction(OpCode opCode, int[] operands, Predicate<Object> predicate, Function<Object, Object> function) {
+      this(opCode, operands, predicate, null, function, false, false, null);
+    }
+
+    private Instruction(OpCode opCode, int[] operands, Predicate<Object> predicate, Object primitivePredicate, Function<Object, Object> function, boolean valueToCut, boolean defaultValue, JunctionProfile profile) {
+      this.opCode = requireNonNull(opCode);
+      this.operands = requireNonNull(operands);
+      this.predicate = predicate;
+      this.primitivePredicate = primitivePredicate;
+      this.function = function;
+      this.valueToCut = valueToCut;
+      this.defaultValue = defaultValue;
+      this.profile = profile;
+    }
+
+    static Instruction leaf(Predicate<Object> predicate) {
+      return new Instruction(OpCode.LEAF, NO_OPERANDS, requireNonNull(predicate), null);
+    }
+
+    static Instruction primitiveLeaf(OpCode opCode, Object primitivePredicate) {
+      return new Instruction(opCode, NO_OPERANDS, null, requireNonNull(primitivePredicate), null, false, false, null);
+    }
+
+    static Instruction function(Function<Object, Object> function, int next) {
+      return new Instruction(OpCode.FUNCTION, new int[] { next }, null, requireNonNull(function));
+    }
+
+    static Instruction stream(int cut, boolean valueToCut, boolean defaultValue) {
+      return new Instruction(OpCode.STREAM, new int[] { cut }, null, null, null, valueToCut, defaultValue, null);
+    }
+
+    static Instruction junction(OpCode opCode, int[] operands, JunctionProfile profile) {
+      return new Instruction(opCode, operands, null, null, null, false, false, profile);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder b = new StringBuilder(opCode.name());
+      for (int each : operands)
+        b.append(" ").append(each);
+      if (opCode == OpCode.STREAM)
+        b.append(" cutOn:").append(valueToCut).append(" default:").append(defaultValue);
+      if (profile != null)
+        b.append(" ").append(profile);
+      return b.toString();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.github.valid8j.pcond.core;
+
+import com.github.valid8j.pcond.validator.Validator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable snapshot of the settings that affect an evaluation by the {@link Evaluator}.
+ *
+ * A snapshot is taken once per check (see {@link Validator#checkValueAndThrowIfFails}) and held by
+ * the {@link EvaluationContext}, so that the evaluator doesn't need to look up the current {@link Validator}
+ * and its {@link Validator.Configuration} for every form it visits.
+ * When debugging is disabled, a debug hook is reduced to a branch on a final field.
+ */
+public final class EvaluationSettings {
+  /**
+   * Settings where debugging features are all disabled and entries are materialized eagerly.
+   */
+  public static final EvaluationSettings DEFAULT = new EvaluationSettings(false, false, false, 0, 0, false, null);
+
+  final boolean debugLogEnabled;
+  final boolean showEvaluableDetail;
+  final boolean lazyEntries;
+  final int     parallelStreamThreshold;
+  final int     streamTraceBudget;
+  final boolean memoizeFunctions;
+  /**
+   * A listener to be notified of forms evaluated, or `null` if none is registered.
+   */
+  final EvaluationListener listener;
+
+  private EvaluationSettings(boolean debugLogEnabled, boolean showEvaluableDetail, boolean lazyEntries, int parallelStreamThreshold, int streamTraceBudget, boolean memoizeFunctions, EvaluationListener listener) {
+    this.debugLogEnabled = debugLogEnabled;
+    this.showEvaluableDetail = showEvaluableDetail;
+    this.lazyEntries = lazyEntries;
+    this.parallelStreamThreshold = parallelStreamThreshold;
+    this.streamTraceBudget = streamTraceBudget;
+    this.memoizeFunctions = memoizeFunctions;
+    this.listener = listener;
+  }
+
+  public boolean debugLogEnabled() {
+    return this.debugLogEnabled;
+  }
+
+  public boolean showEvaluableDetail() {
+    return this.showEvaluableDetail;
+  }
+
+  public boolean lazyEntries() {
+    return this.lazyEntries;
+  }
+
+  /**
+   * Returns the minimum number of elements of a stream, with which a stream predicate is evaluated in parallel.
+   * `0` means the parallel evaluation is disabled.
+   *
+   * @return The minimum number of elements to evaluate a stream in parallel.
+   * @see Validator.Configuration#parallelStreamPredicateThreshold()
+   */
+  public int parallelStreamThreshold() {
+    return this.parallelStreamThreshold;
+  }
+
+  /**
+   * Returns the number of elements of a stream whose traces are kept from the beginning and before the end of the
+   * evaluation of a stream predicate.
+   * `0` means no limit.
+   *
+   * @return The number of elements whose traces are kept at each end.
+   * @see Validator.Configuration#streamTraceBudget()
+   */
+  public int streamTraceBudget() {
+    return this.streamTraceBudget;
+  }
+
+  /**
+   * Returns `true` if results of functions should be memoized within an evaluation.
+   *
+   * @return `true` if memoization is requested.
+   * @see Validator.Configuration#memoizeFunctions()
+   */
+  public boolean memoizeFunctions() {
+    return this.memoizeFunctions;
+  }
+
+  /**
+   * Returns a listener to be notified of forms evaluated.
+   *
+   * @return A listener or `null` if none is registered.
+   * @see Validator.Configuration#evaluationListener()
+   */
+  public EvaluationListener listener() {
+    return this.listener;
+  }
+
+  /**
+   * Takes a snapshot of a given configuration.
+   *
+   * @param configuration A configuration from which the settings are taken.
+   * @return A settings object.
+   */
+  public static EvaluationSettings from(Validator.Configuration configuration) {
+    requireNonNull(configuration);
+    boolean debugLogEnabled = configuration.debugging().map(Validator.Configuration.Debugging::enableDebugLog).orElse(false);
+    boolean showEvaluableDetail = configuration.debugging().map(Validator.Configuration.Debugging::showEvaluableDetail).orElse(false);
+    boolean lazyEntries = configuration.lazyEvaluationEntries();
+    int parallelStreamThreshold = Math.max(0, configuration.parallelStreamPredicateThreshold());
+    int streamTraceBudget = Math.max(0, configuration.streamTraceBudget());
+    boolean memoizeFunctions = configuration.memoizeFunctions();
+    EvaluationListener listener = configuration.evaluationListener().orElse(null);
+    if (!debugLogEnabled && !showEvaluableDetail && !lazyEntries && parallelStreamThreshold == 0 && streamTraceBudget == 0 && !memoizeFunctions && listener == null)
+      return DEFAULT;
+    return new EvaluationSettings(debugLogEnabled, showEvaluableDetail, lazyEntries, parallelStreamThreshold, streamTraceBudget, memoizeFunctions, listener);
+  }
+
+  /**
+   * Takes a snapshot of the configuration of the current validator.
+   *
+   * @return A settings object.
+   */
+  public static EvaluationSettings current() {
+    return from(Validator.instance().configuration());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("EvaluationSettings{debugLogEnabled=%s, showEvaluableDetail=%s, lazyEntries=%s, parallelStreamThreshold=%s, streamTraceBudget=%s, memoizeFunctions=%s, listener=%s}", debugLogEnabled, showEvaluableDetail, lazyEntries, parallelStreamThreshold, streamTraceBudget, memoizeFunctions, listener);
+  }
+}
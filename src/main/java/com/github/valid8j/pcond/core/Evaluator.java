@@ -1,10 +1,19 @@
 package com.github.valid8j.pcond.core;
 
+import com.github.valid8j.pcond.core.identifieable.Identifiable;
+import com.github.valid8j.pcond.core.printable.SubstringsPredicate;
 import com.github.valid8j.pcond.experimentals.currying.context.CurriedContext;
 import com.github.valid8j.pcond.internals.InternalUtils;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.github.valid8j.pcond.core.EvaluationContext.formNameOf;
@@ -12,6 +21,8 @@ import static com.github.valid8j.pcond.core.EvaluationContext.resolveEvaluationE
 import static com.github.valid8j.pcond.core.ValueHolder.CreatorFormType.FUNC_HEAD;
 import static com.github.valid8j.pcond.core.ValueHolder.CreatorFormType.FUNC_TAIL;
 import static com.github.valid8j.pcond.core.ValueHolder.State.*;
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -104,6 +115,11 @@ public interface Evaluator {
   }
   
   class Impl implements Evaluator {
+    /**
+     * The maximum number of elements of a stream pulled and searched at once in the parallel evaluation.
+     */
+    private static final int MAX_PARALLEL_STREAM_CHUNK_SIZE = 1 << 16;
+
     public static final Object EVALUATION_SKIPPED = new Object() {
       @Override
       public String toString() {
@@ -111,6 +127,13 @@ public interface Evaluator {
       }
     };
     
+    private static final Object ELIDED = new Object() {
+      @Override
+      public String toString() {
+        return "...";
+      }
+    };
+    
     private static final Object NULL_VALUE = new Object() {
       public String toString() {
         return "null";
@@ -134,7 +157,7 @@ public interface Evaluator {
               ValueHolder<Boolean> outputFromEach = child.output();
               if (outputFromEach.isValueReturned()) {
                 result &= outputFromEach.returnedValue();
-                ret = ValueHolder.forValue(result);
+                ret = ValueHolder.forBoolean(result);
               } else if (child.output().isExceptionThrown()) {
                 ret = ValueHolder.<Boolean>create().evaluationSkipped();
                 retSkipped = retSkipped != null ? retSkipped : ret;
@@ -164,7 +187,7 @@ public interface Evaluator {
               ValueHolder<Boolean> outputFromEach = child.output();
               if (outputFromEach.isValueReturned()) {
                 result |= outputFromEach.returnedValue();
-                ret = ValueHolder.forValue(result);
+                ret = ValueHolder.forBoolean(result);
               } else if (outputFromEach.isExceptionThrown()) {
                 ret = ValueHolder.<Boolean>create().evaluationSkipped();
                 retSkipped = retSkipped != null ? retSkipped : ret;
@@ -190,7 +213,7 @@ public interface Evaluator {
               EvaluableIo<T, Evaluable<T>, Boolean> childIo = createChildEvaluableIoOf(evaluable.target(), input);
               evaluable.target().accept(childIo, evaluationContext, this);
               return childIo.output().isValueReturned() ?
-                  ValueHolder.forValue(evaluationContext.isExpectationFlipped() ^ childIo.output().returnedValue()) :
+                  ValueHolder.forBoolean(evaluationContext.isExpectationFlipped() ^ childIo.output().returnedValue()) :
                   childIo.output();
             } finally {
               evaluationContext.flipExpectation();
@@ -233,7 +256,7 @@ public interface Evaluator {
                                       childContext.evaluate(EvaluationEntry.Type.FUNCTION, ioForHead, io -> {
                                         ValueHolder<Object> tmp = ValueHolder.create();
                                         if (io.input().isValueReturned())
-                                          tmp = applyFunction(tmp, io.input().returnedValue(), ((Evaluable.Func<T>) io.evaluable()).head());
+                                          tmp = applyFunction(tmp, io.input().returnedValue(), ((Evaluable.Func<T>) io.evaluable()).head(), childContext);
                                         else
                                           tmp = tmp.evaluationSkipped();
                                         return tmp.creatorFormType(FUNC_HEAD);
@@ -244,15 +267,27 @@ public interface Evaluator {
                                     ValueHolder<Object> finalRet = (ValueHolder<Object>) ret;
                                     return evaluable.tail().map((Evaluable<Object> e) -> {
                                                       EvaluableIo<Object, Evaluable<Object>, R> ioForTail = createChildEvaluableIoOf(e, finalRet);
-                                                      DebuggingUtils.printIo("FUNC_TAIL:BEFORE", ioForTail);
+                                                      DebuggingUtils.printIo(evaluationContext, "FUNC_TAIL:BEFORE", ioForTail);
                                                       e.accept(ioForTail, (EvaluationContext<Object>) evaluationContext, this);
-                                                      DebuggingUtils.printIo("FUNC_TAIL:AFTER", ioForTail);
+                                                      DebuggingUtils.printIo(evaluationContext, "FUNC_TAIL:AFTER", ioForTail);
                                                       return ioForTail.output().creatorFormType(FUNC_TAIL);
                                                     })
                                                     .orElse(ret);
                                   });
     }
     
+    /**
+     * Applies a `function` to `in`.
+     * If memoization is requested by the settings and the function is {@link Identifiable}, a result memoized
+     * in the current evaluation for the same function and the same (identical) input is reused.
+     * Functions are regarded as the same only when they are identical, or equal and their identities determine their behavior.
+     */
+    private static <T, R> ValueHolder<R> applyFunction(ValueHolder<R> ret, T in, Function<? super T, Object> function, EvaluationContext<?> evaluationContext) {
+      if (!evaluationContext.settings().memoizeFunctions() || !(function instanceof Identifiable))
+        return applyFunction(ret, in, function);
+      return evaluationContext.memoized(function, in, () -> applyFunction(ret, in, function));
+    }
+    
     @SuppressWarnings("unchecked")
     private static <T, R> ValueHolder<R> applyFunction(ValueHolder<R> ret, T in, Function<? super T, Object> function) {
       try {
@@ -275,10 +310,10 @@ public interface Evaluator {
       childContext.evaluate(
           evaluableIo,
           (Evaluable.Transformation<T, R> evaluable, ValueHolder<T> input) -> {
-            DebuggingUtils.printInput("TRANSFORMATION:BEFORE", evaluable, input);
+            DebuggingUtils.printInput(childContext, "TRANSFORMATION:BEFORE", evaluable, input);
             EvaluableIo<T, Evaluable<T>, R> mapperIo = evaluateMapper(evaluable.mapperName().orElse("transform"), evaluable.mapper(), input, childContext);
             EvaluableIo<R, Evaluable<R>, Boolean> checkerIo = evaluateChecker(evaluable.checkerName().orElse("check"), evaluable.checker(), mapperIo.output(), childContext);
-            DebuggingUtils.printInputAndOutput(evaluable, input, checkerIo.output());
+            DebuggingUtils.printInputAndOutput(childContext, evaluable, input, checkerIo.output());
             return checkerIo.output();
           }
       );
@@ -292,9 +327,9 @@ public interface Evaluator {
         
         // #1
         childContext.evaluate(EvaluationEntry.Type.TRANSFORM, mapperName, ioForMapper, io -> {
-          DebuggingUtils.printIo("TRANSFORM:BEFORE", io);
+          DebuggingUtils.printIo(childContext, "TRANSFORM:BEFORE", io);
           io.evaluable().accept(io, childContext, this);
-          DebuggingUtils.printIo("TRANSFORM:AFTER", io);
+          DebuggingUtils.printIo(childContext, "TRANSFORM:AFTER", io);
           return io.output();
         });
         
@@ -309,9 +344,9 @@ public interface Evaluator {
         EvaluationContext<R> childContext = new EvaluationContext<>(evaluationContext);
         
         childContext.evaluate(EvaluationEntry.Type.CHECK, checkerName, ioForChecker, io -> {
-          DebuggingUtils.printIo("CHECK:BEFORE", io);
+          DebuggingUtils.printIo(childContext, "CHECK:BEFORE", io);
           io.evaluable().accept(io, childContext, this);
-          DebuggingUtils.printIo("CHECK:AFTER", io);
+          DebuggingUtils.printIo(childContext, "CHECK:AFTER", io);
           return io.output();
         });
         
@@ -327,23 +362,18 @@ public interface Evaluator {
     
     @Override
     public <E> void evaluateStreamPredicate(EvaluableIo<Stream<E>, Evaluable.StreamPred<E>, Boolean> evaluableIo, EvaluationContext<Stream<E>> evaluationContext) {
+      if (evaluationContext.settings().parallelStreamThreshold() > 0) {
+        evaluateStreamPredicateInParallel(evaluableIo, evaluationContext);
+        return;
+      }
+      if (evaluationContext.settings().streamTraceBudget() > 0) {
+        evaluateStreamPredicateWithTraceBudget(evaluableIo, evaluationContext);
+        return;
+      }
       evaluationContext.evaluate(
           evaluableIo,
           (Evaluable.StreamPred<E> evaluable, ValueHolder<Stream<E>> input) -> input.returnedValue()
-                                                                                    .map((E e) -> {
-                                                                                      if (evaluable.requestExpectationFlip())
-                                                                                        evaluationContext.flipExpectation();
-                                                                                      try {
-                                                                                        EvaluationContext<E> childContext = new EvaluationContext<>(evaluationContext);
-                                                                                        EvaluableIo<E, Evaluable<E>, Boolean> ioForCutPredicate = createChildEvaluableIoOf(evaluable.cut(), ValueHolder.forValue(e));
-                                                                                        evaluable.cut().accept(ioForCutPredicate, childContext, this);
-                                                                                        evaluationContext.importEntries(childContext);
-                                                                                        return ioForCutPredicate.output();
-                                                                                      } finally {
-                                                                                        if (evaluable.requestExpectationFlip())
-                                                                                          evaluationContext.flipExpectation();
-                                                                                      }
-                                                                                    })
+                                                                                    .map((E e) -> evaluateStreamElement(evaluable, e, evaluationContext))
                                                                                     .filter(eachResult -> {
                                                                                       if (!eachResult.isValueReturned())
                                                                                         return true;
@@ -353,6 +383,134 @@ public interface Evaluator {
                                                                                     .findFirst()
                                                                                     .orElseGet(() -> ValueHolder.forValue(evaluable.defaultValue())));      // compute Value for none
     }
+
+    /**
+     * Evaluates a stream predicate by searching for the lowest index of a cut on the common fork-join pool.
+     *
+     * At most {@link EvaluationSettings#parallelStreamThreshold()} elements are pulled from the stream first.
+     * If the stream ends before that, they are evaluated sequentially.
+     * Otherwise, the elements are pulled and searched chunk by chunk, so that the memory used doesn't depend on the
+     * length of the stream, and an infinite stream is cut as well as the sequential evaluation.
+     * Each chunk is tested concurrently by the compiled form of the cut predicate ({@link EvaluationPlan}),
+     * which doesn't record anything.
+     * Then only the element that made the cut happen is evaluated again to record its trace.
+     * Thus, unlike the sequential evaluation, elements before the cut don't appear in the report.
+     */
+    private <E> void evaluateStreamPredicateInParallel(EvaluableIo<Stream<E>, Evaluable.StreamPred<E>, Boolean> evaluableIo, EvaluationContext<Stream<E>> evaluationContext) {
+      evaluationContext.evaluate(
+          evaluableIo,
+          (Evaluable.StreamPred<E> evaluable, ValueHolder<Stream<E>> input) -> {
+            int threshold = evaluationContext.settings().parallelStreamThreshold();
+            Spliterator<E> source = input.returnedValue().spliterator();
+            List<E> chunk = new ArrayList<>();
+            if (!pull(source, chunk, threshold)) {
+              for (E each : chunk) {
+                ValueHolder<Boolean> eachResult = evaluateStreamElement(evaluable, each, evaluationContext);
+                if (!eachResult.isValueReturned() || eachResult.returnedValue() == evaluable.valueToCut())
+                  return eachResult.valueReturned(!evaluable.defaultValue());
+              }
+              return ValueHolder.forValue(evaluable.defaultValue());
+            }
+            Predicate<E> plan = EvaluationPlan.planOf(evaluable.cut());
+            boolean valueToCut = evaluable.valueToCut();
+            int chunkSize = threshold;
+            boolean remaining = true;
+            while (!chunk.isEmpty()) {
+              int index = ParallelCutSearch.lowestIndexOfCut(chunk, e -> plan.test(e) == valueToCut);
+              if (index >= 0)
+                return evaluateStreamElement(evaluable, chunk.get(index), evaluationContext).valueReturned(!evaluable.defaultValue());
+              chunk.clear();
+              if (!remaining)
+                break;
+              chunkSize = (int) Math.min(chunkSize * 2L, MAX_PARALLEL_STREAM_CHUNK_SIZE);
+              remaining = pull(source, chunk, chunkSize);
+            }
+            return ValueHolder.forValue(evaluable.defaultValue());
+          });
+    }
+
+    /**
+     * Pulls at most `max` elements from `source` into `chunk`.
+     *
+     * @return `true` if `max` elements were pulled, i.e., `source` may have more elements.
+     */
+    private static <E> boolean pull(Spliterator<E> source, List<E> chunk, int max) {
+      while (chunk.size() < max)
+        if (!source.tryAdvance(chunk::add))
+          return false;
+      return true;
+    }
+
+    /**
+     * Evaluates a stream predicate keeping traces of at most {@link EvaluationSettings#streamTraceBudget()} elements
+     * from the beginning and the same number of elements before the end of the evaluation (a cut or the end of the stream).
+     *
+     * Elements beyond the first ones are evaluated in a context detached from `evaluationContext`, whose storage is
+     * reused for each element, and only the latest traces are kept.
+     * Elements dropped from them are summarized as a single entry.
+     * Thus, the memory used for the traces doesn't depend on the number of elements.
+     */
+    private <E> void evaluateStreamPredicateWithTraceBudget(EvaluableIo<Stream<E>, Evaluable.StreamPred<E>, Boolean> evaluableIo, EvaluationContext<Stream<E>> evaluationContext) {
+      evaluationContext.evaluate(
+          evaluableIo,
+          (Evaluable.StreamPred<E> evaluable, ValueHolder<Stream<E>> input) -> {
+            int budget = evaluationContext.settings().streamTraceBudget();
+            Deque<List<EvaluationEntry>> latestTraces = new ArrayDeque<>(budget + 1);
+            EvaluationContext.Arena scratch = new EvaluationContext.Arena();
+            long numElided = 0;
+            int index = 0;
+            ValueHolder<Boolean> ret = ValueHolder.forValue(evaluable.defaultValue());
+            for (Iterator<E> i = input.returnedValue().iterator(); i.hasNext(); index++) {
+              ValueHolder<Boolean> eachResult;
+              if (index < budget) {
+                eachResult = evaluateStreamElement(evaluable, i.next(), evaluationContext);
+              } else {
+                scratch.clear();
+                EvaluationContext<E> childContext = new EvaluationContext<>(evaluationContext, scratch);
+                eachResult = evaluateStreamElementIn(childContext, evaluable, i.next());
+                latestTraces.addLast(childContext.resultEntries());
+                if (latestTraces.size() > budget) {
+                  latestTraces.removeFirst();
+                  numElided++;
+                }
+              }
+              if (!eachResult.isValueReturned() || eachResult.returnedValue() == evaluable.valueToCut()) {
+                ret = eachResult.valueReturned(!evaluable.defaultValue());
+                break;
+              }
+            }
+            if (numElided > 0)
+              evaluationContext.importEntries(singletonList(createElidedElementsEntry(numElided, !evaluable.valueToCut())), evaluationContext.currentIndentLevel());
+            for (List<EvaluationEntry> each : latestTraces)
+              evaluationContext.importEntries(each, evaluationContext.currentIndentLevel());
+            return ret;
+          });
+    }
+
+    private static EvaluationEntry createElidedElementsEntry(long numElided, boolean resultOfEachElement) {
+      return EvaluationEntry.create(
+          format("(%s elements omitted)", numElided), EvaluationEntry.Type.LEAF, 0,
+          ELIDED, null,
+          resultOfEachElement, null,
+          ELIDED, null,
+          resultOfEachElement, null,
+          false, false, false);
+    }
+
+    private <E> ValueHolder<Boolean> evaluateStreamElement(Evaluable.StreamPred<E> evaluable, E e, EvaluationContext<Stream<E>> evaluationContext) {
+      EvaluationContext<E> childContext = new EvaluationContext<>(evaluationContext);
+      ValueHolder<Boolean> ret = evaluateStreamElementIn(childContext, evaluable, e);
+      evaluationContext.importEntries(childContext);
+      return ret;
+    }
+
+    private <E> ValueHolder<Boolean> evaluateStreamElementIn(EvaluationContext<E> childContext, Evaluable.StreamPred<E> evaluable, E e) {
+      if (evaluable.requestExpectationFlip())
+        childContext.flipExpectation();
+      EvaluableIo<E, Evaluable<E>, Boolean> ioForCutPredicate = createChildEvaluableIoOf(evaluable.cut(), ValueHolder.forValue(e));
+      evaluable.cut().accept(ioForCutPredicate, childContext, this);
+      return ioForCutPredicate.output();
+    }
     
     @Override
     public void evaluateCurriedContextPredicate(EvaluableIo<CurriedContext, Evaluable.CurriedContextPred, Boolean> evaluableIo, EvaluationContext<CurriedContext> evaluationContext) {
@@ -405,6 +563,49 @@ public interface Evaluator {
       else
         return value;
     }
+    
+    /**
+     * Returns a materialized value if the given `value` is a {@link Deferred} snapshot.
+     * Otherwise, the `value` itself is returned.
+     *
+     * @param value A value recorded in an entry.
+     * @return A value to be rendered in a report.
+     */
+    static Object materializeIfDeferred(Object value) {
+      if (value instanceof Deferred) {
+        Object ret = ((Deferred) value).materialize();
+        return ret == null ? NULL : ret;
+      }
+      return value;
+    }
+    
+    /**
+     * A snapshot whose content is computed only when it is rendered in a report.
+     *
+     * A `snapshot` method can return this to keep its cost O(1) while recording evaluation entries.
+     * The `materializer` must capture only the state it needs as immutable (or structurally shared)
+     * objects, e.g., the original string and a position in it, not the mutable object itself.
+     */
+    final class Deferred {
+      private final Supplier<?> materializer;
+      
+      private Deferred(Supplier<?> materializer) {
+        this.materializer = requireNonNull(materializer);
+      }
+      
+      public Object materialize() {
+        return this.materializer.get();
+      }
+      
+      @Override
+      public String toString() {
+        return String.valueOf(materialize());
+      }
+      
+      public static Deferred of(Supplier<?> materializer) {
+        return new Deferred(materializer);
+      }
+    }
   }
   
   /**
@@ -430,11 +631,25 @@ public interface Evaluator {
     }
     
     static <T, E extends Evaluable<T>> Object explainActual(EvaluableIo<T, E, ?> evaluableIo) {
+      return explainActual(evaluableIo, evaluableIo.input().value());
+    }
+    
+    /**
+     * Explains the actual behavior of an evaluable recorded in `evaluableIo`, whose input is given as `input`.
+     * The `input` can be a value captured when the evaluation finished, instead of the current one held by the `evaluableIo`.
+     *
+     * @param evaluableIo An IO of an evaluation.
+     * @param input       The input of the evaluation.
+     * @return An explanation of the actual behavior.
+     */
+    static <T, E extends Evaluable<T>> Object explainActual(EvaluableIo<T, E, ?> evaluableIo, Object input) {
       if (evaluableIo.output().state() == VALUE_RETURNED) {
-        T ret = evaluableIo.input().returnedValue();
+        Object ret = input;
+        if (ret != null && evaluableIo.evaluable() instanceof SubstringsPredicate)
+          return ((Explainable) evaluableIo.evaluable()).explainActual(ret);
         return ret != null ? ret : Impl.NULL_VALUE;
       } else if (evaluableIo.output().state() == EXCEPTION_THROWN)
-        return EvaluationEntry.composeDetailOutputActualValueFromInputAndThrowable(evaluableIo.input().value(), evaluableIo.output().thrownException());
+        return EvaluationEntry.composeDetailOutputActualValueFromInputAndThrowable(input, evaluableIo.output().thrownException());
       else {
         assert evaluableIo.output().state() == EVALUATION_SKIPPED : "evaluableIo:" + evaluableIo;
         return EVALUATION_SKIPPED;
@@ -0,0 +1,127 @@
+package com.github.valid8j.pcond.core;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * A profile of a "shortcut" junction in an adaptive {@link EvaluationPlan}.
+ *
+ * For one in every {@link JunctionProfile#SAMPLING_INTERVAL} calls, the time spent by each child tested and whether
+ * its result decided the junction's result are recorded.
+ * Children are tested in the current order until one of them decides the result, just as in an unsampled call, so
+ * that a child guarded by a preceding one (e.g., `isNotNull()`) isn't tested by sampling.
+ * Every {@link JunctionProfile#REORDERING_INTERVAL} sampled calls, the children are reordered so that a child
+ * which is cheap and likely to decide the result (`false` for a conjunction and `true` for a disjunction) is
+ * tested earlier.
+ * If a child throws an exception while the children are tested in an order other than the declared one, the child
+ * may depend on a preceding one as a guard.
+ * The profile then goes back to the declared order and stops reordering.
+ *
+ * Counters are updated without synchronization.
+ * Since they are only used as a heuristic, lost updates from concurrent calls are tolerated.
+ * The order is replaced with a new array on a reordering, so that a reader never sees a partially updated one.
+ */
+final class JunctionProfile {
+  static final int SAMPLING_INTERVAL   = 64;
+  static final int REORDERING_INTERVAL = 16;
+
+  private final boolean decisiveValue;
+  private final long[]  nanos;
+  private final long[]  decisions;
+  private final int[]   declaredOrder;
+  private long          samples;
+  private int           calls;
+  private volatile int[] order;
+  private volatile boolean pinned;
+
+  JunctionProfile(int numChildren, boolean decisiveValue) {
+    this.decisiveValue = decisiveValue;
+    this.nanos = new long[numChildren];
+    this.decisions = new long[numChildren];
+    this.declaredOrder = IntStream.range(0, numChildren).toArray();
+    this.order = this.declaredOrder;
+  }
+
+  /**
+   * Returns a result of a child that decides the junction's result, i.e., `false` for a conjunction and `true` for a disjunction.
+   *
+   * @return A decisive value.
+   */
+  boolean decisiveValue() {
+    return this.decisiveValue;
+  }
+
+  /**
+   * Returns the current order of the children, as indices in the declared order.
+   * The returned array must not be modified.
+   *
+   * @return The current order of children.
+   */
+  int[] order() {
+    return this.order;
+  }
+
+  /**
+   * Returns `true` if the given order, which must be one returned by {@link JunctionProfile#order()}, is the declared one.
+   *
+   * @param order An order returned by {@link JunctionProfile#order()}.
+   * @return `true` if `order` is the declared order.
+   */
+  boolean isDeclaredOrder(int[] order) {
+    return order == this.declaredOrder;
+  }
+
+  /**
+   * Restores the declared order and stops reordering the children from now on.
+   */
+  void pinDeclaredOrder() {
+    this.pinned = true;
+    this.order = this.declaredOrder;
+  }
+
+  /**
+   * Returns `true` if the current call should be sampled.
+   *
+   * @return `true` if the caller should record the children it tests.
+   */
+  boolean shouldSample() {
+    return (++this.calls & (SAMPLING_INTERVAL - 1)) == 0;
+  }
+
+  void record(int child, long nanos, boolean decisive) {
+    this.nanos[child] += nanos;
+    if (decisive)
+      this.decisions[child]++;
+  }
+
+  void endSample() {
+    if (++this.samples % REORDERING_INTERVAL == 0 && !this.pinned)
+      reorder();
+  }
+
+  /**
+   * Sorts the children in the ascending order of their expected costs to decide the result, which is
+   * the average time spent by a child divided by the probability that it decides the result, both estimated from
+   * the sampled calls where the child was tested.
+   * Children that have never decided the result are placed at the end, keeping the declared order among them.
+   */
+  private void reorder() {
+    double[] scores = new double[this.nanos.length];
+    for (int i = 0; i < scores.length; i++)
+      scores[i] = this.decisions[i] == 0 ?
+          Double.POSITIVE_INFINITY :
+          (double) this.nanos[i] / (double) this.decisions[i];
+    Integer[] newOrder = new Integer[scores.length];
+    Arrays.setAll(newOrder, i -> i);
+    Arrays.sort(newOrder, Comparator.comparingDouble((Integer i) -> scores[i]));
+    int[] reordered = Arrays.stream(newOrder).mapToInt(Integer::intValue).toArray();
+    if (!this.pinned)
+      this.order = Arrays.equals(reordered, this.declaredOrder) ? this.declaredOrder : reordered;
+  }
+
+  @Override
+  public String toString() {
+    return "order:" + Arrays.toString(this.order);
+  }
+}
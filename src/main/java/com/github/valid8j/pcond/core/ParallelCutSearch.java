@@ -0,0 +1,88 @@
+package com.github.valid8j.pcond.core;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Finds the lowest index of elements that make a "cut" happen in a {@link Evaluable.StreamPred}, using a fork-join pool.
+ *
+ * Elements are split into ranges, which are tested concurrently.
+ * Once an element at an index is found to be a cut, ranges (and the rest of ranges) after the index are not
+ * tested anymore.
+ * Since every element before the lowest index found so far is always tested, the result is deterministic
+ * regardless of scheduling.
+ */
+final class ParallelCutSearch<E> extends RecursiveAction {
+  private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+  private final List<E>             elements;
+  private final Predicate<? super E> cut;
+  private final AtomicInteger       lowest;
+  private final int                 from;
+  private final int                 to;
+  private final int                 grain;
+
+  private ParallelCutSearch(List<E> elements, Predicate<? super E> cut, AtomicInteger lowest, int from, int to, int grain) {
+    this.elements = elements;
+    this.cut = cut;
+    this.lowest = lowest;
+    this.from = from;
+    this.to = to;
+    this.grain = grain;
+  }
+
+  /**
+   * Returns the lowest index of an element in `elements` that satisfies `cut`.
+   * An element for which `cut` throws a runtime exception is considered to satisfy it, as the sequential
+   * evaluation does.
+   * An {@link Error} thrown by `cut` is not masked but propagated to the caller.
+   *
+   * @param elements Elements to be searched. This must support fast random access.
+   * @param cut      A predicate that tests if an element makes a cut happen.
+   * @param <E>      The type of the elements.
+   * @return The lowest index of a cut or `-1` if no element satisfies `cut`.
+   */
+  static <E> int lowestIndexOfCut(List<E> elements, Predicate<? super E> cut) {
+    AtomicInteger lowest = new AtomicInteger(NOT_FOUND);
+    int grain = Math.max(1, elements.size() / (ForkJoinPool.getCommonPoolParallelism() * 8));
+    ForkJoinPool.commonPool().invoke(new ParallelCutSearch<>(elements, cut, lowest, 0, elements.size(), grain));
+    int ret = lowest.get();
+    return ret == NOT_FOUND ? -1 : ret;
+  }
+
+  @Override
+  protected void compute() {
+    if (this.from >= this.lowest.get())
+      return;
+    if (this.to - this.from <= this.grain) {
+      searchSequentially();
+      return;
+    }
+    int mid = (this.from + this.to) >>> 1;
+    invokeAll(
+        new ParallelCutSearch<>(elements, cut, lowest, from, mid, grain),
+        new ParallelCutSearch<>(elements, cut, lowest, mid, to, grain));
+  }
+
+  private void searchSequentially() {
+    for (int i = this.from; i < this.to; i++) {
+      if (i >= this.lowest.get())
+        return;
+      if (isCut(this.elements.get(i))) {
+        this.lowest.accumulateAndGet(i, Math::min);
+        return;
+      }
+    }
+  }
+
+  private boolean isCut(E element) {
+    try {
+      return this.cut.test(element);
+    } catch (RuntimeException e) {
+      return true;
+    }
+  }
+}
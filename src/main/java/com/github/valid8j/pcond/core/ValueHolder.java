@@ -2,12 +2,26 @@ package com.github.valid8j.pcond.core;
 
 import static java.util.Objects.requireNonNull;
 
-public class ValueHolder<V> implements Cloneable {
-
-  private final State state;
+/**
+ * An immutable holder of an input or an output of a form evaluated by the {@link Evaluator}.
+ *
+ * Since an object of this class is never modified, holders for `true`, `false`, an evaluation not yet performed, and
+ * a skipped evaluation are canonicalized for each {@link CreatorFormType} and shared among all the evaluations.
+ * Methods to create a holder return a canonical instance when possible, so that evaluating junctions and leaves
+ * doesn't allocate a new holder for a boolean result.
+ *
+ * @param <V> The type of the held value.
+ */
+public final class ValueHolder<V> implements Cloneable {
+  private static final ValueHolder<?>[] NOT_YET_EVALUATED  = canonicalHolders(State.NOT_YET_EVALUATED, null);
+  private static final ValueHolder<?>[] TRUE               = canonicalHolders(State.VALUE_RETURNED, Boolean.TRUE);
+  private static final ValueHolder<?>[] FALSE              = canonicalHolders(State.VALUE_RETURNED, Boolean.FALSE);
+  private static final ValueHolder<?>[] EVALUATION_SKIPPED = canonicalHolders(State.EVALUATION_SKIPPED, null);
+
+  private final State           state;
   private final CreatorFormType creatorFormType;
-  V         value;
-  Throwable exception;
+  private final V               value;
+  private final Throwable       exception;
 
   private ValueHolder(State state, V value, Throwable exception, CreatorFormType creatorFormType) {
     this.state = state;
@@ -16,13 +30,13 @@ public class ValueHolder<V> implements Cloneable {
     this.creatorFormType = creatorFormType;
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Returns this object itself, since a holder is immutable.
+   *
+   * @return This object.
+   */
   public ValueHolder<V> clone() {
-    try {
-      return (ValueHolder<V>) super.clone();
-    } catch (CloneNotSupportedException e) {
-      throw new RuntimeException(e);
-    }
+    return this;
   }
 
   public State state() {
@@ -48,7 +62,17 @@ public class ValueHolder<V> implements Cloneable {
   }
 
   public static <V> ValueHolder<V> forValue(V value) {
-    return new ValueHolder<>(State.VALUE_RETURNED, value, null, CreatorFormType.UNKNOWN);
+    return valueReturned(value, CreatorFormType.UNKNOWN);
+  }
+
+  /**
+   * Returns a canonical holder of a given boolean value.
+   *
+   * @param value A value to be held.
+   * @return A shared holder of `value`.
+   */
+  public static ValueHolder<Boolean> forBoolean(boolean value) {
+    return canonical(value ? TRUE : FALSE, CreatorFormType.UNKNOWN);
   }
 
   @Override
@@ -78,7 +102,7 @@ public class ValueHolder<V> implements Cloneable {
 
   public ValueHolder<V> valueReturned(V value) {
     //    requireState(this.state, v -> v.equals(State.NOT_YET_EVALUATED), v -> messageNotYetEvaluatedStateIsRequired(v, this));
-    return new ValueHolder<>(State.VALUE_RETURNED, value, null, this.creatorFormType);
+    return valueReturned(value, this.creatorFormType);
   }
 
   public ValueHolder<V> exceptionThrown(Throwable throwable) {
@@ -88,11 +112,22 @@ public class ValueHolder<V> implements Cloneable {
 
   public ValueHolder<V> evaluationSkipped() {
     //    requireState(this.state, v -> v.equals(State.NOT_YET_EVALUATED), v -> messageNotYetEvaluatedStateIsRequired(v, this));
-    return new ValueHolder<>(State.EVALUATION_SKIPPED, null, null, this.creatorFormType);
+    return canonical(EVALUATION_SKIPPED, this.creatorFormType);
   }
 
   public ValueHolder<V> creatorFormType(CreatorFormType creatorFormType) {
-    return new ValueHolder<>(this.state, this.value, this.exception, creatorFormType);
+    if (this.creatorFormType == creatorFormType)
+      return this;
+    switch (this.state) {
+    case NOT_YET_EVALUATED:
+      return canonical(NOT_YET_EVALUATED, creatorFormType);
+    case VALUE_RETURNED:
+      return valueReturned(this.value, creatorFormType);
+    case EVALUATION_SKIPPED:
+      return canonical(EVALUATION_SKIPPED, creatorFormType);
+    default:
+      return new ValueHolder<>(this.state, this.value, this.exception, creatorFormType);
+    }
   }
 
   static <E> ValueHolder<E> create() {
@@ -100,7 +135,29 @@ public class ValueHolder<V> implements Cloneable {
   }
 
   public static <E> ValueHolder<E> create(CreatorFormType creatorFormType) {
-    return new ValueHolder<>(State.NOT_YET_EVALUATED, null, null, creatorFormType);
+    return canonical(NOT_YET_EVALUATED, creatorFormType);
+  }
+
+  private static <V> ValueHolder<V> valueReturned(V value, CreatorFormType creatorFormType) {
+    // Only the canonical Boolean objects are replaced, so that an identity of a returned value is kept.
+    if (value == Boolean.TRUE)
+      return canonical(TRUE, creatorFormType);
+    if (value == Boolean.FALSE)
+      return canonical(FALSE, creatorFormType);
+    return new ValueHolder<>(State.VALUE_RETURNED, value, null, creatorFormType);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> ValueHolder<V> canonical(ValueHolder<?>[] holders, CreatorFormType creatorFormType) {
+    return (ValueHolder<V>) holders[creatorFormType.ordinal()];
+  }
+
+  private static ValueHolder<?>[] canonicalHolders(State state, Object value) {
+    CreatorFormType[] creatorFormTypes = CreatorFormType.values();
+    ValueHolder<?>[] ret = new ValueHolder<?>[creatorFormTypes.length];
+    for (CreatorFormType each : creatorFormTypes)
+      ret[each.ordinal()] = new ValueHolder<>(state, value, null, each);
+    return ret;
   }
 
   public enum State {
@@ -4,6 +4,8 @@ import com.github.valid8j.pcond.core.refl.MethodQuery;
 import com.github.valid8j.pcond.forms.Functions;
 import com.github.valid8j.pcond.forms.Predicates;
 
+import java.util.Collection;
+
 /**
  * // @formatter:off
  * An interface that defines to check a target object.
@@ -43,6 +45,26 @@ public interface AbstractObjectChecker<
     return this.checkWithPredicate(Predicates.isEqualTo(anotherObject));
   }
 
+  /**
+   * Adds a predicate to this checker object to check if the target object is "equal" to one of the `elements`.
+   *
+   * @param elements Allowed values.
+   * @return The updated checker object.
+   */
+  default V in(Collection<?> elements) {
+    return this.checkWithPredicate(Predicates.isIn(elements));
+  }
+
+  /**
+   * Adds a predicate to this checker object to check if the target object is "equal" to none of the `elements`.
+   *
+   * @param elements Disallowed values.
+   * @return The updated checker object.
+   */
+  default V notIn(Collection<?> elements) {
+    return this.checkWithPredicate(Predicates.isNotIn(elements));
+  }
+
   /**
    * Adds a predicate to this checker object to check the target object and the argument for `anotherObject` if they
    * are referencing the same object.
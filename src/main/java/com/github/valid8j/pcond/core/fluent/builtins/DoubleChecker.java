@@ -1,6 +1,7 @@
 package com.github.valid8j.pcond.core.fluent.builtins;
 
 
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory;
 import com.github.valid8j.pcond.internals.InternalUtils;
 
 import java.util.function.Function;
@@ -14,6 +15,26 @@ public interface DoubleChecker<
                 T,
                 Double> {
 
+  default DoubleChecker<T> equalTo(double v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createDoubleComparison(ParameterizedLeafFactory.EQUAL_TO, v));
+  }
+
+  default DoubleChecker<T> lessThan(double v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createDoubleComparison(ParameterizedLeafFactory.LESS_THAN, v));
+  }
+
+  default DoubleChecker<T> lessThanOrEqualTo(double v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createDoubleComparison(ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO, v));
+  }
+
+  default DoubleChecker<T> greaterThan(double v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createDoubleComparison(ParameterizedLeafFactory.GREATER_THAN, v));
+  }
+
+  default DoubleChecker<T> greaterThanOrEqualTo(double v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createDoubleComparison(ParameterizedLeafFactory.GREATER_THAN_OR_EQUAL_TO, v));
+  }
+
   class Impl<
       T
       > extends
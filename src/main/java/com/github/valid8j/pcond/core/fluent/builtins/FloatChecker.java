@@ -1,6 +1,7 @@
 package com.github.valid8j.pcond.core.fluent.builtins;
 
 
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory;
 import com.github.valid8j.pcond.internals.InternalUtils;
 
 import java.util.function.Function;
@@ -12,6 +13,26 @@ public interface FloatChecker<
                 FloatChecker<T>,
                 T,
                 Float> {
+  default FloatChecker<T> equalTo(float v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createFloatComparison(ParameterizedLeafFactory.EQUAL_TO, v));
+  }
+
+  default FloatChecker<T> lessThan(float v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createFloatComparison(ParameterizedLeafFactory.LESS_THAN, v));
+  }
+
+  default FloatChecker<T> lessThanOrEqualTo(float v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createFloatComparison(ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO, v));
+  }
+
+  default FloatChecker<T> greaterThan(float v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createFloatComparison(ParameterizedLeafFactory.GREATER_THAN, v));
+  }
+
+  default FloatChecker<T> greaterThanOrEqualTo(float v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createFloatComparison(ParameterizedLeafFactory.GREATER_THAN_OR_EQUAL_TO, v));
+  }
+
   class Impl<
       T> extends
       Base<
@@ -1,6 +1,8 @@
 package com.github.valid8j.pcond.core.fluent.builtins;
 
 
+import com.github.valid8j.pcond.core.printable.MembershipPredicate;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory;
 import com.github.valid8j.pcond.internals.InternalUtils;
 
 import java.util.function.Function;
@@ -14,6 +16,34 @@ public interface IntegerChecker<
                 OIN,
                 Integer> {
 
+  default IntegerChecker<OIN> equalTo(int v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createIntComparison(ParameterizedLeafFactory.EQUAL_TO, v));
+  }
+
+  default IntegerChecker<OIN> lessThan(int v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createIntComparison(ParameterizedLeafFactory.LESS_THAN, v));
+  }
+
+  default IntegerChecker<OIN> lessThanOrEqualTo(int v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createIntComparison(ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO, v));
+  }
+
+  default IntegerChecker<OIN> greaterThan(int v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createIntComparison(ParameterizedLeafFactory.GREATER_THAN, v));
+  }
+
+  default IntegerChecker<OIN> greaterThanOrEqualTo(int v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createIntComparison(ParameterizedLeafFactory.GREATER_THAN_OR_EQUAL_TO, v));
+  }
+
+  default IntegerChecker<OIN> in(int... values) {
+    return checkWithPredicate(MembershipPredicate.createIntMembership(values, false));
+  }
+
+  default IntegerChecker<OIN> notIn(int... values) {
+    return checkWithPredicate(MembershipPredicate.createIntMembership(values, true));
+  }
+
   class Impl<
       T> extends
       Base<
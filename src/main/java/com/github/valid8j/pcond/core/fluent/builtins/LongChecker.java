@@ -1,6 +1,7 @@
 package com.github.valid8j.pcond.core.fluent.builtins;
 
 
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory;
 import com.github.valid8j.pcond.internals.InternalUtils;
 
 import java.util.function.Function;
@@ -14,6 +15,26 @@ public interface LongChecker<
                 OIN,
                 Long> {
 
+  default LongChecker<OIN> equalTo(long v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createLongComparison(ParameterizedLeafFactory.EQUAL_TO, v));
+  }
+
+  default LongChecker<OIN> lessThan(long v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createLongComparison(ParameterizedLeafFactory.LESS_THAN, v));
+  }
+
+  default LongChecker<OIN> lessThanOrEqualTo(long v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createLongComparison(ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO, v));
+  }
+
+  default LongChecker<OIN> greaterThan(long v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createLongComparison(ParameterizedLeafFactory.GREATER_THAN, v));
+  }
+
+  default LongChecker<OIN> greaterThanOrEqualTo(long v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createLongComparison(ParameterizedLeafFactory.GREATER_THAN_OR_EQUAL_TO, v));
+  }
+
   class Impl<T> extends
       Base<
           LongChecker<T>,
@@ -1,6 +1,7 @@
 package com.github.valid8j.pcond.core.fluent.builtins;
 
 
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory;
 import com.github.valid8j.pcond.internals.InternalUtils;
 
 import java.util.function.Function;
@@ -13,6 +14,26 @@ public interface ShortChecker<
                 T,
                 Short> {
 
+  default ShortChecker<T> equalTo(short v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createShortComparison(ParameterizedLeafFactory.EQUAL_TO, v));
+  }
+
+  default ShortChecker<T> lessThan(short v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createShortComparison(ParameterizedLeafFactory.LESS_THAN, v));
+  }
+
+  default ShortChecker<T> lessThanOrEqualTo(short v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createShortComparison(ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO, v));
+  }
+
+  default ShortChecker<T> greaterThan(short v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createShortComparison(ParameterizedLeafFactory.GREATER_THAN, v));
+  }
+
+  default ShortChecker<T> greaterThanOrEqualTo(short v) {
+    return checkWithPredicate(ParameterizedLeafFactory.createShortComparison(ParameterizedLeafFactory.GREATER_THAN_OR_EQUAL_TO, v));
+  }
+
   class Impl<
       T> extends
       Base<
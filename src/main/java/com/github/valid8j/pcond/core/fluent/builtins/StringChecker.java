@@ -11,6 +11,8 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import static java.util.Arrays.asList;
+
 public interface StringChecker<T> extends
     AbstractObjectChecker<
                     StringChecker<T>,
@@ -55,6 +57,48 @@ public interface StringChecker<T> extends
     return this.checkWithPredicate(Cursors.findSubstrings(tokens));
   }
 
+  /**
+   * Checks if all the given tokens are contained by the target value, regardless of their order.
+   * The tokens are searched for in one pass over the target value.
+   *
+   * @param tokens Tokens to be contained by the target value.
+   * @return This object.
+   */
+  default StringChecker<T> containingAll(String... tokens) {
+    return this.checkWithPredicate(Predicates.containsAllSubstrings(tokens));
+  }
+
+  /**
+   * Checks if all the given tokens are contained by the target value in the given order.
+   * Unlike {@link StringChecker#containingSubstrings(String...)}, the tokens are searched for in one pass over the target value.
+   *
+   * @param tokens Tokens to be contained by the target value.
+   * @return This object.
+   */
+  default StringChecker<T> containingAllInOrder(String... tokens) {
+    return this.checkWithPredicate(Predicates.containsAllSubstringsInOrder(tokens));
+  }
+
+  /**
+   * Checks if the target value is one of the given values.
+   *
+   * @param values Allowed values.
+   * @return This object.
+   */
+  default StringChecker<T> in(String... values) {
+    return this.checkWithPredicate(Predicates.isIn(asList(values)));
+  }
+
+  /**
+   * Checks if the target value is none of the given values.
+   *
+   * @param values Disallowed values.
+   * @return This object.
+   */
+  default StringChecker<T> notIn(String... values) {
+    return this.checkWithPredicate(Predicates.isNotIn(asList(values)));
+  }
+
   default StringChecker<T> startingWith(String prefix) {
     return this.checkWithPredicate(Predicates.startsWith(prefix));
   }
@@ -83,6 +127,10 @@ public interface StringChecker<T> extends
     return this.checkWithPredicate(Predicates.matchesRegex(regex));
   }
 
+  default StringChecker<T> matchingRegex(Pattern pattern) {
+    return this.checkWithPredicate(Predicates.matchesRegex(pattern));
+  }
+
   default StringChecker<T> equalToIgnoringCase(String s) {
     return this.checkWithPredicate(Predicates.equalsIgnoreCase(s));
   }
@@ -33,6 +33,27 @@ public interface Identifiable {
     return "noname:" + (object == null ? "null" : object.toString());
   }
 
+  /**
+   * Returns `true` if all the `args` are immutable values whose equality and hash codes are stable, i.e., `null`, strings,
+   * boxed primitives, enum constants, and classes.
+   *
+   * @param args Arguments of an identifiable object.
+   * @return `true` if all the `args` are immutable values.
+   */
+  static boolean areImmutableValues(List<?> args) {
+    for (Object each : args) {
+      if (!(each == null ||
+          each instanceof String ||
+          each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte ||
+          each instanceof Double || each instanceof Float ||
+          each instanceof Character || each instanceof Boolean ||
+          each instanceof Enum ||
+          each instanceof Class))
+        return false;
+    }
+    return true;
+  }
+
   Object creator();
 
   /**
@@ -56,7 +77,9 @@ public interface Identifiable {
       return true;
     if (!this.getClass().isInstance(anotherObject))
       return false;
-    return Objects.equals(this.identityObject(), ((Identifiable) anotherObject).identityObject());
+    Object identity = this.identityObject();
+    Object anotherIdentity = ((Identifiable) anotherObject).identityObject();
+    return identity == anotherIdentity || Objects.equals(identity, anotherIdentity);
   }
 
   default Object createIdentity() {
@@ -75,15 +98,32 @@ public interface Identifiable {
 
   List<Object> args();
 
+  /**
+   * A base class of {@link Identifiable}.
+   *
+   * If all the arguments are immutable values (see {@link Identifiable#areImmutableValues(List)}), the hash code of
+   * the identity is computed on the first request and cached, since objects of this class are often used as keys of
+   * maps, and {@link Base#equals(Object)} rejects an object with a different hash code without comparing the identities.
+   * Otherwise, the hash code is computed on every request as the arguments may be modified.
+   */
   class Base implements Identifiable {
     private final Object       creator;
     private final List<Object> args;
     private final Object       identity;
+    private final boolean      immutable;
+    /**
+     * A cached hash code of the identity, `0` until it is computed.
+     * As {@link String#hashCode()} does, a data race on these fields is benign, since every thread computes the same value
+     * and each field is written at most once.
+     */
+    private       int          identityHashCode;
+    private       boolean      identityHashCodeIsZero;
 
     protected Base(Object creator, List<Object> args) {
       this.creator = Objects.requireNonNull(creator);
       this.args = Objects.requireNonNull(args);
       this.identity = createIdentity();
+      this.immutable = Identifiable.areImmutableValues(args);
     }
 
     @Override
@@ -101,6 +141,21 @@ public interface Identifiable {
       return args;
     }
 
+    @Override
+    public int defaultHashCode() {
+      if (!this.immutable)
+        return this.identity.hashCode();
+      int ret = this.identityHashCode;
+      if (ret == 0 && !this.identityHashCodeIsZero) {
+        ret = this.identity.hashCode();
+        if (ret == 0)
+          this.identityHashCodeIsZero = true;
+        else
+          this.identityHashCode = ret;
+      }
+      return ret;
+    }
+
     @Override
     public int hashCode() {
       return defaultHashCode();
@@ -110,6 +165,8 @@ public interface Identifiable {
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     @Override
     public boolean equals(Object obj) {
+      if (this.immutable && obj instanceof Base && ((Base) obj).immutable && ((Base) obj).defaultHashCode() != this.defaultHashCode())
+        return false;
       return defaultEquals(obj);
     }
   }
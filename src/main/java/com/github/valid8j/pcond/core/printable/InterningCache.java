@@ -0,0 +1,88 @@
+package com.github.valid8j.pcond.core.printable;
+
+import com.github.valid8j.pcond.core.identifieable.Identifiable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A cache that returns a canonical instance of a printable form for a creator and arguments.
+ *
+ * Values are held weakly, so that a canonical instance is shared while somebody uses it, and collected otherwise.
+ * Only forms whose arguments are immutable values (see {@link InterningCache#isInternable(List)}) are interned,
+ * because a key whose hash code changes after it is put would never be found again.
+ *
+ * @param <V> The type of the forms.
+ */
+final class InterningCache<V> {
+  private final ConcurrentMap<Object, WeakValue<V>> map   = new ConcurrentHashMap<>();
+  private final ReferenceQueue<V>                   queue = new ReferenceQueue<>();
+
+  /**
+   * Returns a canonical instance for a given `creator` and `args`.
+   * If there is none, one created by the `factory` is registered and returned.
+   *
+   * @param creator A creator of a form.
+   * @param args    Arguments of the form.
+   * @param factory A factory which creates a form when there is no canonical instance.
+   * @return A canonical instance.
+   */
+  V intern(Object creator, List<Object> args, Supplier<V> factory) {
+    expungeStaleEntries();
+    Object key = asList(creator, args);
+    WeakValue<V> ref = this.map.get(key);
+    V ret = ref == null ? null : ref.get();
+    if (ret != null)
+      return ret;
+    V created = factory.get();
+    WeakValue<V> newRef = new WeakValue<>(key, created, this.queue);
+    while (true) {
+      WeakValue<V> existing = this.map.putIfAbsent(key, newRef);
+      if (existing == null)
+        return created;
+      V v = existing.get();
+      if (v != null)
+        return v;
+      if (this.map.replace(key, existing, newRef))
+        return created;
+    }
+  }
+
+  int size() {
+    expungeStaleEntries();
+    return this.map.size();
+  }
+
+  private void expungeStaleEntries() {
+    Object each;
+    while ((each = this.queue.poll()) != null) {
+      @SuppressWarnings("unchecked") WeakValue<V> ref = (WeakValue<V>) each;
+      this.map.remove(ref.key, ref);
+    }
+  }
+
+  /**
+   * Returns `true` if all the `args` are immutable values whose equality is stable.
+   *
+   * @param args Arguments of a form.
+   * @return `true` if a form with the `args` can be interned.
+   */
+  static boolean isInternable(List<Object> args) {
+    return Identifiable.areImmutableValues(args);
+  }
+
+  private static final class WeakValue<V> extends WeakReference<V> {
+    final Object key;
+
+    WeakValue(Object key, V value, ReferenceQueue<V> queue) {
+      super(value, queue);
+      this.key = key;
+    }
+  }
+}
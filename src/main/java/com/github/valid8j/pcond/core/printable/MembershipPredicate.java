@@ -0,0 +1,280 @@
+package com.github.valid8j.pcond.core.printable;
+
+import com.github.valid8j.pcond.core.Evaluable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A predicate that checks if a value is one of (or none of) the given elements, which are compared with `equals` method.
+ *
+ * The elements are copied into an immutable lookup structure on instantiation, so that a test takes constant time
+ * regardless of the number of the elements.
+ * Elements of the same enum class are looked up by their ordinals, and small sets of `Integer`s or `String`s are
+ * placed in a collision-free (perfect) hash table.
+ * Other sets are backed by a {@link HashSet}.
+ *
+ * Since this is a single leaf, a failure is reported in one line, unlike `anyOf(isEqualTo(a), isEqualTo(b), ...)`.
+ */
+public final class MembershipPredicate<T> extends PrintablePredicate<T> implements Evaluable.LeafPred<T> {
+  /**
+   * The maximum number of elements for which a perfect hash table is searched for.
+   */
+  static final int PERFECT_HASH_MAX_SIZE = 64;
+
+  private final Lookup  lookup;
+  private final boolean negated;
+
+  private MembershipPredicate(List<Object> elements, Lookup lookup, boolean negated) {
+    super(
+        MembershipPredicate.class,
+        asList(negated, elements),
+        () -> format("%s%s", negated ? "isNotIn" : "isIn", elements),
+        negated ?
+            v -> !lookup.test(v) :
+            lookup);
+    this.lookup = lookup;
+    this.negated = negated;
+  }
+
+  /**
+   * Returns a predicate that checks if a value is equal to one of the `elements`.
+   *
+   * @param elements Allowed values. `null` is allowed as an element.
+   * @param <T>      The type of the value to be tested.
+   * @return A predicate.
+   */
+  public static <T> Predicate<T> isIn(Collection<?> elements) {
+    return create(elements, false);
+  }
+
+  /**
+   * Returns a predicate that checks if a value is equal to none of the `elements`.
+   *
+   * @param elements Disallowed values. `null` is allowed as an element.
+   * @param <T>      The type of the value to be tested.
+   * @return A predicate.
+   */
+  public static <T> Predicate<T> isNotIn(Collection<?> elements) {
+    return create(elements, true);
+  }
+
+  /**
+   * Returns a predicate that checks if an `int` value is one of (or none of, if `negated` is `true`) the `elements`.
+   * The returned object can test a primitive value without boxing through {@link MembershipPredicate#test(int)}.
+   *
+   * @param elements Elements.
+   * @param negated  `true` to create a predicate for "is not in".
+   * @param <T>      The type of the value to be tested.
+   * @return A predicate.
+   */
+  public static <T extends Number> MembershipPredicate<T> createIntMembership(int[] elements, boolean negated) {
+    List<Object> boxed = new ArrayList<>(elements.length);
+    for (int each : elements)
+      boxed.add(each);
+    return create(boxed, negated);
+  }
+
+  private static <T> MembershipPredicate<T> create(Collection<?> elements, boolean negated) {
+    List<Object> distinct = unmodifiableList(new ArrayList<>(new LinkedHashSet<>(requireNonNull(elements))));
+    return new MembershipPredicate<>(distinct, createLookup(distinct), negated);
+  }
+
+  @Override
+  public Predicate<? super T> predicate() {
+    return this.predicate;
+  }
+
+  /**
+   * Tests a primitive value.
+   * If the elements are all `Integer`s, this method doesn't box `value`.
+   *
+   * @param value A value to be tested.
+   * @return The result of the test.
+   */
+  public boolean test(int value) {
+    boolean ret = this.lookup instanceof IntLookup ?
+        ((IntLookup) this.lookup).contains(value) :
+        this.lookup.test(value);
+    return this.negated != ret;
+  }
+
+  private static Lookup createLookup(List<Object> elements) {
+    boolean containsNull = elements.contains(null);
+    List<Object> nonNulls = new ArrayList<>(elements);
+    nonNulls.removeIf(Objects::isNull);
+    Lookup ret = createLookupForNonNulls(nonNulls);
+    return containsNull ?
+        v -> v == null || ret.test(v) :
+        ret;
+  }
+
+  private static Lookup createLookupForNonNulls(List<Object> elements) {
+    if (elements.isEmpty())
+      return v -> false;
+    Class<?> enumClass = commonEnumClass(elements);
+    if (enumClass != null)
+      return new EnumLookup(enumClass, elements);
+    if (elements.size() <= PERFECT_HASH_MAX_SIZE) {
+      if (elements.stream().allMatch(e -> e instanceof Integer)) {
+        IntLookup ret = IntLookup.create(elements);
+        if (ret != null)
+          return ret;
+      }
+      if (elements.stream().allMatch(e -> e instanceof String)) {
+        StringLookup ret = StringLookup.create(elements);
+        if (ret != null)
+          return ret;
+      }
+    }
+    Set<Object> set = unmodifiableSet(new HashSet<>(elements));
+    return set::contains;
+  }
+
+  private static Class<?> commonEnumClass(List<Object> elements) {
+    Class<?> ret = null;
+    for (Object each : elements) {
+      if (!(each instanceof Enum))
+        return null;
+      Class<?> c = ((Enum<?>) each).getDeclaringClass();
+      if (ret != null && ret != c)
+        return null;
+      ret = c;
+    }
+    return ret;
+  }
+
+  /**
+   * Computes a slot for a hash code `h` in a table of `2^bits` slots, using multiplicative hashing with a multiplier
+   * chosen by `seed`.
+   */
+  private static int slot(int h, int seed, int bits) {
+    return ((h ^ (h >>> 16)) * (0x9E3779B9 + (seed << 1))) >>> (32 - bits);
+  }
+
+  /**
+   * Finds `bits` and `seed` for which the `hashCodes` have no collision, trying a few table sizes and multipliers.
+   *
+   * @return `{bits, seed}` or `null`, if not found.
+   */
+  private static int[] findPerfectHash(int[] hashCodes) {
+    int minBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(hashCodes.length - 1));
+    for (int bits = minBits; bits <= minBits + 3; bits++) {
+      boolean[] used = new boolean[1 << bits];
+      for (int seed = 0; seed < 16; seed++) {
+        Arrays.fill(used, false);
+        if (isCollisionFree(hashCodes, seed, bits, used))
+          return new int[] { bits, seed };
+      }
+    }
+    return null;
+  }
+
+  private static boolean isCollisionFree(int[] hashCodes, int seed, int bits, boolean[] used) {
+    for (int each : hashCodes) {
+      int i = slot(each, seed, bits);
+      if (used[i])
+        return false;
+      used[i] = true;
+    }
+    return true;
+  }
+
+  interface Lookup extends Predicate<Object> {
+  }
+
+  private static final class EnumLookup implements Lookup {
+    private final Class<?>  enumClass;
+    private final boolean[] byOrdinal;
+
+    EnumLookup(Class<?> enumClass, List<Object> elements) {
+      this.enumClass = enumClass;
+      this.byOrdinal = new boolean[enumClass.getEnumConstants().length];
+      for (Object each : elements)
+        this.byOrdinal[((Enum<?>) each).ordinal()] = true;
+    }
+
+    @Override
+    public boolean test(Object v) {
+      return v instanceof Enum && ((Enum<?>) v).getDeclaringClass() == this.enumClass && this.byOrdinal[((Enum<?>) v).ordinal()];
+    }
+  }
+
+  private static final class IntLookup implements Lookup {
+    private final int[]     keys;
+    private final boolean[] occupied;
+    private final int       seed;
+    private final int       bits;
+
+    private IntLookup(int[] keys, boolean[] occupied, int seed, int bits) {
+      this.keys = keys;
+      this.occupied = occupied;
+      this.seed = seed;
+      this.bits = bits;
+    }
+
+    static IntLookup create(List<Object> elements) {
+      int[] values = elements.stream().mapToInt(e -> (Integer) e).toArray();
+      int[] found = findPerfectHash(values);
+      if (found == null)
+        return null;
+      int bits = found[0], seed = found[1];
+      int[] keys = new int[1 << bits];
+      boolean[] occupied = new boolean[1 << bits];
+      for (int each : values) {
+        int i = slot(each, seed, bits);
+        keys[i] = each;
+        occupied[i] = true;
+      }
+      return new IntLookup(keys, occupied, seed, bits);
+    }
+
+    boolean contains(int v) {
+      int i = slot(v, this.seed, this.bits);
+      return this.occupied[i] && this.keys[i] == v;
+    }
+
+    @Override
+    public boolean test(Object v) {
+      return v instanceof Integer && contains((Integer) v);
+    }
+  }
+
+  private static final class StringLookup implements Lookup {
+    private final String[] keys;
+    private final int      seed;
+    private final int      bits;
+
+    private StringLookup(String[] keys, int seed, int bits) {
+      this.keys = keys;
+      this.seed = seed;
+      this.bits = bits;
+    }
+
+    static StringLookup create(List<Object> elements) {
+      int[] hashCodes = elements.stream().mapToInt(Object::hashCode).toArray();
+      int[] found = findPerfectHash(hashCodes);
+      if (found == null)
+        return null;
+      int bits = found[0], seed = found[1];
+      String[] keys = new String[1 << bits];
+      for (Object each : elements)
+        keys[slot(each.hashCode(), seed, bits)] = (String) each;
+      return new StringLookup(keys, seed, bits);
+    }
+
+    @Override
+    public boolean test(Object v) {
+      if (!(v instanceof String))
+        return false;
+      String key = this.keys[slot(v.hashCode(), this.seed, this.bits)];
+      return key != null && key.equals(v);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.github.valid8j.pcond.core.printable;
+
+import com.github.valid8j.pcond.core.Evaluable;
+import com.github.valid8j.pcond.forms.Functions;
+import com.github.valid8j.pcond.internals.InternalUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A pass that rewrites a tree of printable predicates into an equivalent one, which has fewer nodes.
+ *
+ * The following rewrites are applied from the leaves to the root.
+ *
+ * - A junction (`and`, `or`, `allOf`, `anyOf`) is flattened into its parent of the same kind (i.e., the same
+ * junction type and the same shortcut policy).
+ * - A child of a junction identical to a preceding sibling is removed.
+ * A child merely equal to a preceding sibling (by {@link com.github.valid8j.pcond.core.identifieable.Identifiable} identity) is removed only when
+ * the identity determines its behavior (see {@link PrintablePredicateFactory#isDefinedByIdentity(Predicate)}).
+ * - `alwaysTrue` children of a conjunction are removed.
+ * A conjunction that has no child left becomes `alwaysTrue`, and a junction with only one child becomes the child.
+ * - Adjacent lower and upper bound comparisons (e.g., `>=[0]` and `<[100]`) in a conjunction are fused into a range (`[0,100)`),
+ * which is tested by one leaf.
+ * - `not(not(x))` becomes `x`.
+ * - A transformation with an identity function becomes its checker.
+ *
+ * The order of the remaining children is kept, so the result, an exception thrown, and the forms reported for
+ * a failure stay the same as the original tree, as long as predicates and functions in it are free of side effects.
+ * A node is re-created only when any of its descendants is rewritten, and otherwise the original object is returned.
+ */
+enum PredicateOptimizer {
+  ;
+
+  @SuppressWarnings("unchecked")
+  static <T> Predicate<T> optimize(Predicate<T> predicate) {
+    if (predicate instanceof PrintablePredicateFactory.Junction)
+      return optimizeJunction((PrintablePredicateFactory.Junction<T>) predicate);
+    if (predicate instanceof PrintablePredicateFactory.Negation)
+      return optimizeNegation((PrintablePredicateFactory.Negation<T>) predicate);
+    if (predicate instanceof PrintablePredicateFactory.TransformingPredicate)
+      return optimizeTransformation((PrintablePredicateFactory.TransformingPredicate<T, Object>) predicate);
+    return predicate;
+  }
+
+  private static <T> Predicate<T> optimizeJunction(PrintablePredicateFactory.Junction<T> junction) {
+    boolean conjunction = junction instanceof PrintablePredicateFactory.Conjunction;
+    List<Predicate<T>> original = junction.childPredicates();
+    List<Predicate<? super T>> remaining = new ArrayList<>();
+    boolean modified = false;
+    for (Predicate<T> each : original) {
+      Predicate<T> optimized = optimize(each);
+      modified |= optimized != each;
+      if (isSameKindOf(junction, optimized)) {
+        for (Predicate<T> grandchild : ((PrintablePredicateFactory.Junction<T>) optimized).childPredicates())
+          addIfNotDuplicated(remaining, grandchild);
+        modified = true;
+      } else
+        addIfNotDuplicated(remaining, optimized);
+    }
+    if (conjunction) {
+      remaining.removeIf(each -> each == PrintablePredicateFactory.Leaf.ALWAYS_TRUE.instance());
+      fuseBounds(remaining);
+    }
+    if (!modified && remaining.size() == original.size())
+      return junction;
+    if (remaining.isEmpty())
+      return PrintablePredicateFactory.Leaf.ALWAYS_TRUE.instance();
+    if (remaining.size() == 1)
+      return narrow(remaining.get(0));
+    PrintablePredicate<T> ret = conjunction ?
+        new PrintablePredicateFactory.Conjunction<>(remaining, junction.shortcut()) :
+        new PrintablePredicateFactory.Disjunction<>(remaining, junction.shortcut());
+    return junction.isSquashable() ? ret.makeTrivial() : ret;
+  }
+
+  /**
+   * Adds `predicate` to `children` unless it is already there.
+   * A predicate is regarded as a duplicate by reference, or by equality only when its identity determines its behavior,
+   * since, for instance, leaves created from different lambdas are equal to each other.
+   *
+   * @see PrintablePredicateFactory#isDefinedByIdentity(Predicate)
+   */
+  private static <T> void addIfNotDuplicated(List<Predicate<? super T>> children, Predicate<? super T> predicate) {
+    boolean definedByIdentity = PrintablePredicateFactory.isDefinedByIdentity(predicate);
+    for (Predicate<? super T> each : children)
+      if (each == predicate || (definedByIdentity && each.equals(predicate)))
+        return;
+    children.add(predicate);
+  }
+
+  /**
+   * Replaces each pair of adjacent lower and upper bound comparisons in `children` of a conjunction with a range.
+   */
+  private static <T> void fuseBounds(List<Predicate<? super T>> children) {
+    for (int i = 0; i + 1 < children.size(); i++) {
+      Predicate<T> range = PrintablePredicateFactory.Range.fuse(children.get(i), children.get(i + 1));
+      if (range != null) {
+        children.set(i, range);
+        children.remove(i + 1);
+      }
+    }
+  }
+
+  private static <T> Predicate<T> optimizeNegation(PrintablePredicateFactory.Negation<T> negation) {
+    Predicate<T> target = narrow(negation.target());
+    if (target instanceof PrintablePredicateFactory.Negation)
+      return optimize(narrow(((PrintablePredicateFactory.Negation<T>) target).target()));
+    Predicate<T> optimized = optimize(target);
+    if (optimized == target)
+      return negation;
+    return PrintablePredicateFactory.not(optimized);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T, R> Predicate<T> optimizeTransformation(PrintablePredicateFactory.TransformingPredicate<T, R> transformation) {
+    Function<T, R> mapper = (Function<T, R>) transformation.mapper();
+    Predicate<R> checker = narrow(transformation.checker());
+    if (InternalUtils.isDummyFunction(mapper) || Objects.equals(mapper, Functions.identity()))
+      return (Predicate<T>) optimize(checker);
+    Predicate<R> optimized = optimize(checker);
+    if (optimized == checker)
+      return transformation;
+    return new PrintablePredicateFactory.TransformingPredicate<>(
+        transformation.mapperName().orElse(null),
+        transformation.checkerName().orElse(null),
+        optimized,
+        mapper);
+  }
+
+  private static boolean isSameKindOf(PrintablePredicateFactory.Junction<?> junction, Predicate<?> predicate) {
+    return predicate instanceof PrintablePredicateFactory.Junction &&
+        predicate.getClass() == junction.getClass() &&
+        ((PrintablePredicateFactory.Junction<?>) predicate).shortcut() == junction.shortcut() &&
+        !((PrintablePredicateFactory.Junction<?>) predicate).isSquashable();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Predicate<T> narrow(Object predicate) {
+    assert predicate instanceof Predicate && predicate instanceof Evaluable;
+    return (Predicate<T>) predicate;
+  }
+}
@@ -5,12 +5,31 @@ import com.github.valid8j.pcond.core.Evaluator;
 import com.github.valid8j.pcond.core.identifieable.Identifiable;
 import com.github.valid8j.pcond.experimentals.currying.CurriedFunction;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * A function which can be printed in a human-readable form and evaluated by an {@link Evaluator}.
+ *
+ * A function composed of others (see {@link PrintableFunctionFactory#compose(Function, Function)}) holds its
+ * component functions as a flat array of "stages", none of which is composed.
+ * Applying it iterates over the stages, instead of calling nested functions recursively.
+ * Its {@link PrintableFunction#head()} is the first stage and its {@link PrintableFunction#tail()} is a function
+ * composed of the rest, which is created only when an evaluator asks for it.
+ * Note that only the untraced application is flattened.
+ * An evaluator still walks a composed function through `head()` and `tail()` recursively, so a traced evaluation
+ * is as deep as before and produces the same entries, one nested level per stage.
+ *
+ * @param <T> The type of the input.
+ * @param <R> The type of the output.
+ */
 public class PrintableFunction<T, R> extends
         Identifiable.Base implements
     Evaluable.Func<T>,
@@ -18,25 +37,34 @@ public class PrintableFunction<T, R> extends
     Evaluator.Explainable,
     Cloneable {
   final         Function<? super T, ? extends R> function;
-  private final Function<? super T, Object>           head;
-  private final Evaluable<Object> tail;
   private final Supplier<String>                 formatter;
-  private final Function<?, R>                   tailAsFunction;
+  /**
+   * Stages of this function if it is composed, `null` otherwise.
+   */
+  private final PrintableFunction<?, ?>[]        stages;
+  /**
+   * A function composed of the stages but the first one, created lazily by {@link PrintableFunction#tail()}.
+   * Threads racing on the first call may each create one, but they are equal to each other and one of them is kept,
+   * so the race is benign.
+   */
+  private volatile PrintableFunction<Object, ?>  tail;
 
   boolean trivial = false;
 
-  @SuppressWarnings("unchecked")
-  protected PrintableFunction(Object creator, List<Object> args, Supplier<String> s, Function<? super T, ? extends R> function, Function<? super T, ?> head, Evaluable<?> tail) {
+  protected PrintableFunction(Object creator, List<Object> args, Supplier<String> s, Function<? super T, ? extends R> function) {
     super(creator, args);
     this.formatter = Objects.requireNonNull(s);
     this.function = requireNonPrintableFunction(unwrap(Objects.requireNonNull(function)));
-    this.head = head != null ? (Function<? super T, Object>) head : (Function<? super T, Object>) this;
-    this.tail = (Evaluable<Object>) tail;
-    this.tailAsFunction = (Function<?, R>) tail;
+    this.stages = null;
   }
 
-  protected PrintableFunction(Object creator, List<Object> args, Supplier<String> s, Function<? super T, ? extends R> function) {
-    this(creator, args, s, function, null, null);
+  @SuppressWarnings("unchecked")
+  PrintableFunction(Object creator, Supplier<String> s, PrintableFunction<?, ?>[] stages) {
+    super(creator, asList((Object[]) stages));
+    assert stages.length > 1;
+    this.formatter = Objects.requireNonNull(s);
+    this.stages = stages;
+    this.function = (Function<? super T, ? extends R>) new Pipeline(stages);
   }
 
   @Override
@@ -50,22 +78,44 @@ public class PrintableFunction<T, R> extends
     return PrintableFunctionFactory.<V, T, R>compose(before, this);
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public <V> Function<T, V> andThen(Function<? super R, ? extends V> after) {
     Objects.requireNonNull(after);
-    @SuppressWarnings("rawtypes") Function f = this.tailAsFunction == null ? after : PrintableFunctionFactory.compose((Function) this.tailAsFunction, after);
-    return PrintableFunctionFactory.compose(this.head, f);
+    return PrintableFunctionFactory.compose(this, after);
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public Function<? super T, Object> head() {
-    return this.head;
+    return (Function<? super T, Object>) (this.stages == null ? this : this.stages[0]);
   }
 
+  /**
+   * Returns a function composed of the stages of this function but the first one.
+   * It is created on the first call and cached by this object, and its own tail is cached by itself in turn,
+   * so a traced evaluation creates a function for each suffix of the stages only once.
+   *
+   * @return A function composed of the rest of the stages, or an empty optional if this function is not composed.
+   */
   @Override
   public Optional<Evaluable<Object>> tail() {
-    return Optional.ofNullable(this.tail);
+    if (this.stages == null)
+      return Optional.empty();
+    PrintableFunction<Object, ?> ret = this.tail;
+    if (ret == null)
+      this.tail = ret = createTail(this.stages);
+    return Optional.of(ret);
+  }
+
+  /**
+   * Returns stages of this function.
+   * If this function is not composed, an array which contains only this function is returned.
+   * The returned array must not be modified.
+   *
+   * @return Stages of this function.
+   */
+  PrintableFunction<?, ?>[] stages() {
+    return this.stages == null ? new PrintableFunction<?, ?>[] { this } : this.stages;
   }
 
   @Override
@@ -136,4 +186,37 @@ public class PrintableFunction<T, R> extends
     assert !(function instanceof PrintableFunction);
     return function;
   }
+
+  @SuppressWarnings("unchecked")
+  private static PrintableFunction<Object, ?> createTail(PrintableFunction<?, ?>[] stages) {
+    if (stages.length == 2)
+      return (PrintableFunction<Object, ?>) stages[1];
+    PrintableFunction<?, ?>[] rest = Arrays.copyOfRange(stages, 1, stages.length);
+    return new PrintableFunction<>(
+        PrintableFunctionFactory.COMPOSE,
+        () -> Arrays.stream(rest).map(Object::toString).collect(joining("->")),
+        rest);
+  }
+
+  /**
+   * A function that applies stages one by one.
+   */
+  private static final class Pipeline implements Function<Object, Object> {
+    private final Function<Object, Object>[] functions;
+
+    @SuppressWarnings("unchecked")
+    Pipeline(PrintableFunction<?, ?>[] stages) {
+      this.functions = new Function[stages.length];
+      for (int i = 0; i < stages.length; i++)
+        this.functions[i] = (Function<Object, Object>) unwrap(stages[i]);
+    }
+
+    @Override
+    public Object apply(Object value) {
+      Object ret = value;
+      for (Function<Object, Object> each : this.functions)
+        ret = each.apply(ret);
+      return ret;
+    }
+  }
 }
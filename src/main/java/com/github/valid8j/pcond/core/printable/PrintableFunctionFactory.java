@@ -2,7 +2,6 @@ package com.github.valid8j.pcond.core.printable;
 
 import com.github.valid8j.pcond.core.identifieable.Identifiable;
 import com.github.valid8j.pcond.experimentals.currying.CurryingUtils;
-import com.github.valid8j.pcond.core.Evaluable;
 import com.github.valid8j.pcond.experimentals.currying.multi.MultiFunction;
 import com.github.valid8j.pcond.internals.InternalChecks;
 
@@ -56,6 +55,8 @@ public enum PrintableFunctionFactory {
     ELEMENT_AT((args) -> () -> format("at[%s]", args.get(0)), (args) -> (List<?> v) -> v.get((int) args.get(0))),
     CAST((args) -> () -> format("castTo[%s]", requireNonNull((Class<?>) args.get(0)).getSimpleName()), (args) -> (Object v) -> ((Class<?>) args.get(0)).cast(v)),
     ;
+    private static final InterningCache<Function<?, ?>> INTERNED = new InterningCache<>();
+
     final Function<List<Object>, Supplier<String>> formatterFactory;
     final Function<List<Object>, Function<?, ?>>   functionFactory;
 
@@ -64,50 +65,76 @@ public enum PrintableFunctionFactory {
       this.functionFactory = functionFactory;
     }
 
+    /**
+     * Creates a function with `args`.
+     * If the `args` are immutable values, a canonical instance shared with other callers which gave equal `args` is returned.
+     *
+     * @param args Arguments of the function.
+     * @param <T>  The type of the input.
+     * @param <R>  The type of the output.
+     * @return A function.
+     */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <T, R> Function<T, R> create(List<Object> args) {
-      return PrintableFunctionFactory.create(this.formatterFactory, (Function) this.functionFactory, args, this);
+      if (!InterningCache.isInternable(args))
+        return PrintableFunctionFactory.create(this.formatterFactory, (Function) this.functionFactory, args, this);
+      return (Function<T, R>) INTERNED.intern(this, args, () -> PrintableFunctionFactory.create(this.formatterFactory, (Function) this.functionFactory, args, this));
     }
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Returns a function that applies `before` and then `after`.
+   * Stages of `before` and `after` are concatenated into one flat array, so that a long chain of functions is
+   * applied by a loop, not by nested calls.
+   *
+   * @param before A function applied first.
+   * @param after  A function applied to the output of `before`.
+   * @param <T>    The type of the input.
+   * @param <R>    The type of the intermediate value.
+   * @param <S>    The type of the output.
+   * @return A composed function.
+   */
   public static <T, R, S> PrintableFunction<T, S> compose(Function<? super T, ? extends R> before, Function<? super R, ? extends S> after) {
-    PrintableFunction<? super T, ? extends R> before_ = toPrintableFunction(before);
-    PrintableFunction<? super R, ? extends S> after_ = toPrintableFunction(after);
-    PrintableFunction<Object, S> other = (PrintableFunction<Object, S>) after_;
-    return new PrintableFunction<>(
-        COMPOSE,
-        asList(before_, after_),
-        () -> format("%s->%s", before, after),
-        (T v) -> PrintableFunction.unwrap(after).apply(PrintableFunction.unwrap(before).apply(v)),
-        PrintableFunctionFactory.<T>extractHeadOf(before_),
-        (Evaluable<?>) PrintableFunctionFactory.<T, R>extractTailOf(before)
-            .map((Function<?, R> t) -> PrintableFunctionFactory.<Object, R, S>compose((Function<Object, R>) t, after))
-            .orElse(other));
+    PrintableFunction<?, ?>[] beforeStages = toPrintableFunction(before).stages();
+    PrintableFunction<?, ?>[] afterStages = toPrintableFunction(after).stages();
+    PrintableFunction<?, ?>[] stages = Arrays.copyOf(beforeStages, beforeStages.length + afterStages.length);
+    System.arraycopy(afterStages, 0, stages, beforeStages.length, afterStages.length);
+    return new PrintableFunction<>(COMPOSE, () -> format("%s->%s", before, after), stages);
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> Function<? super T, Object> extractHeadOf(Function<? super T, ?> f) {
-    Function<? super T, Object> func = (Function<? super T, Object>) f;
-    Function<? super T, Object> ret;
-    if (func instanceof PrintableFunction) {
-      ret = ((PrintableFunction<? super T, Object>) func).head();
-    } else {
-      ret = func;
-    }
-    return requireNonNull(ret);
+  /**
+   * Returns `true` if the identity (creator and arguments) of a given function fully determines its behavior, so that
+   * a function equal to it can be used in place of it.
+   * This holds for functions created by {@link Simple} and {@link Parameterized} and compositions of them.
+   * It doesn't for functions created from user lambdas (e.g., by {@link PrintableFunctionFactory#function(String, Function)}),
+   * which share one creator and have no arguments.
+   *
+   * @param function A function to be examined.
+   * @return `true` if equal functions are interchangeable.
+   */
+  public static boolean isDefinedByIdentity(Function<?, ?> function) {
+    if (!(function instanceof PrintableFunction))
+      return false;
+    PrintableFunction<?, ?> f = (PrintableFunction<?, ?>) function;
+    if (f.creator() == COMPOSE)
+      return Arrays.stream(f.stages()).allMatch(PrintableFunctionFactory::isDefinedByIdentity);
+    return f.creator() instanceof Simple || f.creator() instanceof Parameterized;
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T, R> Optional<Function<?, R>> extractTailOf(Function<? super T, ? extends R> f) {
-    Function<? super T, Object> func = (Function<? super T, Object>) f;
-    Optional<Function<?, R>> ret;
-    if (func instanceof PrintableFunction) {
-      ret = ((PrintableFunction<?, ?>) func).tail().map(e -> (Function<?, R>) e);
-    } else {
-      ret = Optional.empty();
-    }
-    return ret;
+  /**
+   * Returns `true` if a given function is defined by its identity (see {@link PrintableFunctionFactory#isDefinedByIdentity(Function)})
+   * and its arguments, or those of its stages, are all immutable values, so that its identity can be used as a key of a map.
+   *
+   * @param function A function to be examined.
+   * @return `true` if the identity of the function is stable.
+   */
+  static boolean hasStableIdentity(Function<?, ?> function) {
+    if (!isDefinedByIdentity(function))
+      return false;
+    PrintableFunction<?, ?> f = (PrintableFunction<?, ?>) function;
+    if (f.creator() == COMPOSE)
+      return Arrays.stream(f.stages()).allMatch(PrintableFunctionFactory::hasStableIdentity);
+    return Identifiable.areImmutableValues(f.args());
   }
 
   public static <R> MultiFunction<R> multifunction(Method method, List<Integer> paramOrder) {
@@ -2,17 +2,50 @@ package com.github.valid8j.pcond.core.printable;
 
 import com.github.valid8j.pcond.core.identifieable.Identifiable;
 import com.github.valid8j.pcond.core.Evaluable;
+import com.github.valid8j.pcond.core.EvaluationPlan;
 import com.github.valid8j.pcond.forms.Predicates;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public abstract class PrintablePredicate<T> extends Identifiable.Base implements Predicate<T>, Evaluable<T>, Cloneable {
+  private static final int                                 MAX_SHARED_ADAPTIVE_PLANS = 1024;
+  /**
+   * Adaptive plans of predicates that have stable identities (see {@link PrintablePredicateFactory#hasStableIdentity(Predicate)}),
+   * keyed by their identity objects, so that a predicate built on every call, e.g., `and(isNotNull(), isEqualTo("hello"))`,
+   * shares profiles with the equal ones built before.
+   * The least recently used entry is evicted when it is full.
+   * Accesses are guarded by the map itself.
+   */
+  private static final Map<Object, EvaluationPlan<?>> SHARED_ADAPTIVE_PLANS = new LinkedHashMap<Object, EvaluationPlan<?>>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Object, EvaluationPlan<?>> eldest) {
+      return this.size() > MAX_SHARED_ADAPTIVE_PLANS;
+    }
+  };
   protected final Predicate<? super T> predicate;
   final           Supplier<String>     formatter;
   boolean squashable = false;
+  /**
+   * A plan compiled from this object lazily.
+   * Since a plan is immutable, a racy initialization of this field is harmless.
+   */
+  private EvaluationPlan<T>  evaluationPlan;
+  /**
+   * An adaptive evaluation plan of this predicate, compiled lazily.
+   * Unlike {@link PrintablePredicate#evaluationPlan}, this holds profiles of junctions, which are shared by
+   * the callers of this object.
+   */
+  private volatile EvaluationPlan<T> adaptiveEvaluationPlan;
+  /**
+   * An optimized form of this object, computed lazily.
+   * Just like {@link PrintablePredicate#evaluationPlan}, a racy initialization is harmless.
+   */
+  private Predicate<T>       optimized;
 
   protected PrintablePredicate(Object creator, List<Object> args, Supplier<String> formatter, Predicate<? super T> predicate) {
     super(creator, args);
@@ -30,6 +63,76 @@ public abstract class PrintablePredicate<T> extends Identifiable.Base implements
     return formatter.get();
   }
 
+  /**
+   * Returns an evaluation plan compiled from this predicate.
+   * The plan is compiled on the first call and cached by this object.
+   * For a plan of the optimized form, call this method of {@link PrintablePredicate#optimized()}.
+   *
+   * @return An evaluation plan of this predicate.
+   * @see EvaluationPlan
+   */
+  @SuppressWarnings("unchecked")
+  public EvaluationPlan<T> evaluationPlan() {
+    EvaluationPlan<T> ret = this.evaluationPlan;
+    if (ret == null)
+      this.evaluationPlan = ret = EvaluationPlan.compile(this);
+    return ret;
+  }
+
+  /**
+   * Returns an adaptive evaluation plan compiled from this predicate.
+   * The plan is compiled on the first call and cached by this object, so that profiles collected by it are
+   * shared among calls.
+   * If this predicate has a stable identity (see {@link PrintablePredicateFactory#hasStableIdentity(Predicate)}),
+   * the plan is also shared with equal predicates, so that a predicate built on every call adapts as well.
+   *
+   * @return An adaptive evaluation plan of this predicate.
+   * @see EvaluationPlan#compile(Evaluable, boolean)
+   */
+  @SuppressWarnings("unchecked")
+  public EvaluationPlan<T> adaptiveEvaluationPlan() {
+    EvaluationPlan<T> ret = this.adaptiveEvaluationPlan;
+    if (ret == null) {
+      synchronized (this) {
+        ret = this.adaptiveEvaluationPlan;
+        if (ret == null)
+          this.adaptiveEvaluationPlan = ret = PrintablePredicateFactory.hasStableIdentity(this) ?
+              sharedAdaptiveEvaluationPlan() :
+              EvaluationPlan.compile(this, true);
+      }
+    }
+    return ret;
+  }
+
+  @SuppressWarnings("unchecked")
+  private EvaluationPlan<T> sharedAdaptiveEvaluationPlan() {
+    Object key = this.identityObject();
+    synchronized (SHARED_ADAPTIVE_PLANS) {
+      EvaluationPlan<?> ret = SHARED_ADAPTIVE_PLANS.get(key);
+      if (ret != null)
+        return (EvaluationPlan<T>) ret;
+    }
+    EvaluationPlan<T> compiled = EvaluationPlan.compile(this, true);
+    synchronized (SHARED_ADAPTIVE_PLANS) {
+      EvaluationPlan<?> ret = SHARED_ADAPTIVE_PLANS.putIfAbsent(key, compiled);
+      return ret != null ? (EvaluationPlan<T>) ret : compiled;
+    }
+  }
+
+  /**
+   * Returns an optimized form of this predicate.
+   * The form is computed on the first call and cached by this object.
+   *
+   * @return An optimized form of this predicate.
+   * @see PrintablePredicateFactory#optimize(Predicate)
+   */
+  public Predicate<T> optimized() {
+    Predicate<T> ret = this.optimized;
+    if (ret == null)
+      this.optimized = ret = PrintablePredicateFactory.optimize(this);
+    return ret;
+  }
+
   @Override
   public Predicate<T> and(Predicate<? super T> other) {
     return Predicates.and(this, other);
@@ -55,11 +158,22 @@ public abstract class PrintablePredicate<T> extends Identifiable.Base implements
     return ret;
   }
 
+  /**
+   * Returns a shallow copy of this object.
+   * Cached plans and optimized form are not copied, since they are derived from this object, not from the copy,
+   * which can differ from this one, e.g., in its squashability.
+   *
+   * @return A copy of this object.
+   */
   @SuppressWarnings({ "CloneDoesntDeclareCloneNotSupportedException", "unchecked" })
   @Override
   protected PrintablePredicate<T> clone() {
     try {
-      return (PrintablePredicate<T>) super.clone();
+      PrintablePredicate<T> ret = (PrintablePredicate<T>) super.clone();
+      ret.evaluationPlan = null;
+      ret.adaptiveEvaluationPlan = null;
+      ret.optimized = null;
+      return ret;
     } catch (CloneNotSupportedException e) {
       throw new AssertionError();
     }
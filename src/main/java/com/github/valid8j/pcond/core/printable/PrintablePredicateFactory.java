@@ -1,6 +1,7 @@
 package com.github.valid8j.pcond.core.printable;
 
 import com.github.valid8j.pcond.core.Evaluable;
+import com.github.valid8j.pcond.core.EvaluationPlan;
 import com.github.valid8j.pcond.core.Evaluator;
 import com.github.valid8j.pcond.core.identifieable.Identifiable;
 import com.github.valid8j.pcond.experimentals.currying.context.CurriedContext;
@@ -9,9 +10,14 @@ import com.github.valid8j.pcond.forms.Predicates;
 
 import java.util.*;
 import java.util.function.BinaryOperator;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -27,6 +33,7 @@ public enum PrintablePredicateFactory {
   CONJUNCTION,
   DISJUNCTION,
   LEAF,
+  RANGE,
   ;
 
   private static <T> PrintablePredicate<T> toPrintablePredicateIfNotPrintable(Predicate<T> predicate) {
@@ -97,6 +104,135 @@ public enum PrintablePredicateFactory {
     return new Negation<T>(toPrintablePredicateIfNotPrintable(predicate), singletonList(predicate));
   }
 
+  /**
+   * Returns a predicate equivalent to a given one, whose tree is flattened, deduplicated, and constant-folded.
+   * If nothing can be simplified, the given predicate itself is returned.
+   *
+   * @param predicate A predicate to be optimized.
+   * @param <T>       The type of the value tested by the predicate.
+   * @return An optimized predicate.
+   * @see PredicateOptimizer
+   */
+  public static <T> Predicate<T> optimize(Predicate<T> predicate) {
+    return PredicateOptimizer.optimize(predicate);
+  }
+
+  /**
+   * Returns a predicate that checks if a value is in a range between `lowerBound` and `upperBound`, which is printed
+   * in the interval notation (e.g., `[0,100)`).
+   * Values are compared by `compareTo` method.
+   *
+   * @param lowerBound     The lower bound of the range.
+   * @param lowerInclusive `true` if `lowerBound` itself is in the range.
+   * @param upperBound     The upper bound of the range.
+   * @param upperInclusive `true` if `upperBound` itself is in the range.
+   * @param <T>            The type of the value tested by the predicate.
+   * @return A range predicate.
+   */
+  public static <T extends Comparable<? super T>> Range<T> range(T lowerBound, boolean lowerInclusive, T upperBound, boolean upperInclusive) {
+    return new Range<>(
+        rangeArgs(requireNonNull(lowerBound), lowerInclusive, requireNonNull(upperBound), upperInclusive),
+        v -> (lowerInclusive ? v.compareTo(lowerBound) >= 0 : v.compareTo(lowerBound) > 0) &&
+            (upperInclusive ? v.compareTo(upperBound) <= 0 : v.compareTo(upperBound) < 0));
+  }
+
+  /**
+   * Returns a range predicate specialized for `int`.
+   *
+   * @param lowerBound     The lower bound of the range.
+   * @param lowerInclusive `true` if `lowerBound` itself is in the range.
+   * @param upperBound     The upper bound of the range.
+   * @param upperInclusive `true` if `upperBound` itself is in the range.
+   * @param <T>            The type of the value tested by the predicate.
+   * @return A range predicate, which can test a primitive value without boxing.
+   * @see PrintablePredicateFactory#range(Comparable, boolean, Comparable, boolean)
+   */
+  public static <T extends Number> IntRange<T> intRange(int lowerBound, boolean lowerInclusive, int upperBound, boolean upperInclusive) {
+    return new IntRange<>(rangeArgs(lowerBound, lowerInclusive, upperBound, upperInclusive));
+  }
+
+  /**
+   * Returns a range predicate specialized for `long`.
+   *
+   * @param lowerBound     The lower bound of the range.
+   * @param lowerInclusive `true` if `lowerBound` itself is in the range.
+   * @param upperBound     The upper bound of the range.
+   * @param upperInclusive `true` if `upperBound` itself is in the range.
+   * @param <T>            The type of the value tested by the predicate.
+   * @return A range predicate, which can test a primitive value without boxing.
+   * @see PrintablePredicateFactory#range(Comparable, boolean, Comparable, boolean)
+   */
+  public static <T extends Number> LongRange<T> longRange(long lowerBound, boolean lowerInclusive, long upperBound, boolean upperInclusive) {
+    return new LongRange<>(rangeArgs(lowerBound, lowerInclusive, upperBound, upperInclusive));
+  }
+
+  /**
+   * Returns a range predicate specialized for `double`.
+   * Values are compared by {@link Double#compare(double, double)} as well as {@link DoubleComparison}.
+   *
+   * @param lowerBound     The lower bound of the range.
+   * @param lowerInclusive `true` if `lowerBound` itself is in the range.
+   * @param upperBound     The upper bound of the range.
+   * @param upperInclusive `true` if `upperBound` itself is in the range.
+   * @param <T>            The type of the value tested by the predicate.
+   * @return A range predicate, which can test a primitive value without boxing.
+   * @see PrintablePredicateFactory#range(Comparable, boolean, Comparable, boolean)
+   */
+  public static <T extends Number> DoubleRange<T> doubleRange(double lowerBound, boolean lowerInclusive, double upperBound, boolean upperInclusive) {
+    return new DoubleRange<>(rangeArgs(lowerBound, lowerInclusive, upperBound, upperInclusive));
+  }
+
+  private static List<Object> rangeArgs(Object lowerBound, boolean lowerInclusive, Object upperBound, boolean upperInclusive) {
+    return asList(lowerBound, lowerInclusive, upperBound, upperInclusive);
+  }
+
+  /**
+   * Returns `true` if the identity (creator and arguments) of a given predicate fully determines its behavior, so that
+   * a predicate equal to it can be used in place of it.
+   * This holds for built-in leaves, such as ones created by {@link ParameterizedLeafFactory}, ranges, and membership and
+   * substring predicates.
+   * It doesn't for leaves created from user lambdas (e.g., by {@link PrintablePredicateFactory#leaf(String, Predicate)}),
+   * which share one creator and have no arguments, nor for composites, whose equality depends on their children.
+   *
+   * @param predicate A predicate to be examined.
+   * @return `true` if equal predicates are interchangeable.
+   */
+  public static boolean isDefinedByIdentity(Predicate<?> predicate) {
+    if (!(predicate instanceof LeafPredicate) && !(predicate instanceof MembershipPredicate) && !(predicate instanceof SubstringsPredicate))
+      return false;
+    Object creator = ((PrintablePredicate<?>) predicate).creator();
+    return creator instanceof Leaf ||
+        creator instanceof ParameterizedLeafFactory ||
+        creator == RANGE ||
+        creator == MembershipPredicate.class ||
+        creator == SubstringsPredicate.class;
+  }
+
+  /**
+   * Returns `true` if the identity of a given predicate can be used as a key of a map in place of the predicate itself.
+   * This holds for a leaf defined by its identity (see {@link PrintablePredicateFactory#isDefinedByIdentity(Predicate)})
+   * whose arguments are all immutable values, and for a negation, junction, transformation, or stream predicate all of whose
+   * children hold this recursively, e.g., `and(isNotNull(), greaterThanOrEqualTo(0))`.
+   * Such predicates created on every call at the same call site are equal to each other.
+   *
+   * @param predicate A predicate to be examined.
+   * @return `true` if the identity of the predicate is stable.
+   */
+  public static boolean hasStableIdentity(Predicate<?> predicate) {
+    if (isDefinedByIdentity(predicate))
+      return Identifiable.areImmutableValues(((Identifiable) predicate).args());
+    if (!(predicate instanceof Negation || predicate instanceof Junction || predicate instanceof TransformingPredicate || predicate instanceof StreamPredicate))
+      return false;
+    for (Object each : ((Identifiable) predicate).args()) {
+      boolean stable = each instanceof Predicate ?
+          hasStableIdentity((Predicate<?>) each) :
+          each instanceof Function && PrintableFunctionFactory.hasStableIdentity((Function<?, ?>) each);
+      if (!stable)
+        return false;
+    }
+    return true;
+  }
+
   public static <E> Predicate<Stream<E>> allMatch(Predicate<E> predicate) {
     return AllMatch.create(predicate);
   }
@@ -166,7 +302,20 @@ public enum PrintablePredicateFactory {
         (args) -> v -> ((Comparable<? super Comparable<?>>) v).compareTo((Comparable<? super Comparable<?>>) args.get(0)) == 0),
     MATCHES_REGEX(
         (args) -> () -> String.format("matchesRegex[%s]", args.get(0)),
-        (args) -> (s) -> ((String) s).matches((String) args.get(0))),
+        (args) -> {
+          String regex = (String) args.get(0);
+          Pattern pattern;
+          try {
+            pattern = InternalUtils.compilePattern(regex);
+          } catch (PatternSyntaxException e) {
+            // An invalid regex is reported as a failure of a test, not on instantiation, just as String#matches does.
+            return (s) -> ((String) s).matches(regex);
+          }
+          return (s) -> pattern.matcher((String) s).matches();
+        }),
+    MATCHES_PATTERN(
+        (args) -> () -> String.format("matchesRegex[%s]", args.get(0)),
+        (args) -> (s) -> ((Pattern) args.get(0)).matcher((String) s).matches()),
     CONTAINS_STRING(
         (args) -> () -> format("containsString[%s]", args.get(0)),
         (args) -> (s) -> ((String) s).contains((String) args.get(0))),
@@ -187,6 +336,8 @@ public enum PrintablePredicateFactory {
     CONTAINS(
         (args) -> () -> format("contains[%s]", args.get(0)),
         (args) -> (c) -> ((Collection<?>) c).contains(args.get(0)));
+    private static final InterningCache<Predicate<?>> INTERNED = new InterningCache<>();
+
     private final Function<List<Object>, Predicate<Object>> predicateFactory;
     private final Function<List<Object>, Supplier<String>>  formatterFactory;
 
@@ -204,11 +355,479 @@ public enum PrintablePredicateFactory {
       return (Function) this.predicateFactory;
     }
 
+    /**
+     * Creates a predicate by a given factory with `args`.
+     * If the `args` are immutable values, a canonical instance shared with other callers which gave equal `args` is returned,
+     * so that caches held by the predicate (e.g., a compiled evaluation plan) are reused.
+     * `OBJECT_IS_SAME_AS` is never interned, since it compares the argument by reference.
+     *
+     * @param parameterizedLeafFactory A factory of a predicate.
+     * @param args                     Arguments of the predicate.
+     * @param <T>                      The type of the value to be tested.
+     * @return A predicate.
+     */
+    @SuppressWarnings("unchecked")
     public static <T> Predicate<T> create(ParameterizedLeafFactory parameterizedLeafFactory, List<Object> args) {
+      if (parameterizedLeafFactory == OBJECT_IS_SAME_AS || !InterningCache.isInternable(args))
+        return createUninterned(parameterizedLeafFactory, args);
+      return (Predicate<T>) INTERNED.intern(parameterizedLeafFactory, args, () -> createUninterned(parameterizedLeafFactory, args));
+    }
+
+    private static <T> Predicate<T> createUninterned(ParameterizedLeafFactory parameterizedLeafFactory, List<Object> args) {
       return parameterizedLeaf(
           parameterizedLeafFactory.formatterFactory(), parameterizedLeafFactory.functionFactory(), args, parameterizedLeafFactory
       );
     }
+
+    /**
+     * Creates a comparison predicate specialized for `int`.
+     * The returned predicate is equal to the one created by {@link ParameterizedLeafFactory#create(ParameterizedLeafFactory, List)}
+     * with the same comparison and a boxed `bound`, and prints the same, but compares values without calling `compareTo`.
+     * The returned object is an {@link IntComparison}, which can test a primitive value without boxing.
+     *
+     * @param comparison One of `GREATER_THAN`, `GREATER_THAN_OR_EQUAL_TO`, `LESS_THAN`, `LESS_THAN_OR_EQUAL_TO`, and `EQUAL_TO`.
+     * @param bound      A value to which a tested value is compared.
+     * @param <T>        The type of the value to be tested.
+     * @return A comparison predicate.
+     */
+    public static <T extends Number> Predicate<T> createIntComparison(ParameterizedLeafFactory comparison, int bound) {
+      return new IntComparison<>(comparison, bound, bound);
+    }
+
+    /**
+     * Creates a comparison predicate for `short`, which is specialized for `int`.
+     *
+     * @param comparison One of `GREATER_THAN`, `GREATER_THAN_OR_EQUAL_TO`, `LESS_THAN`, `LESS_THAN_OR_EQUAL_TO`, and `EQUAL_TO`.
+     * @param bound      A value to which a tested value is compared.
+     * @param <T>        The type of the value to be tested.
+     * @return A comparison predicate.
+     * @see ParameterizedLeafFactory#createIntComparison(ParameterizedLeafFactory, int)
+     */
+    public static <T extends Number> Predicate<T> createShortComparison(ParameterizedLeafFactory comparison, short bound) {
+      return new IntComparison<>(comparison, bound, bound);
+    }
+
+    /**
+     * Creates a comparison predicate specialized for `long`.
+     *
+     * @param comparison One of `GREATER_THAN`, `GREATER_THAN_OR_EQUAL_TO`, `LESS_THAN`, `LESS_THAN_OR_EQUAL_TO`, and `EQUAL_TO`.
+     * @param bound      A value to which a tested value is compared.
+     * @param <T>        The type of the value to be tested.
+     * @return A comparison predicate.
+     * @see ParameterizedLeafFactory#createIntComparison(ParameterizedLeafFactory, int)
+     */
+    public static <T extends Number> Predicate<T> createLongComparison(ParameterizedLeafFactory comparison, long bound) {
+      return new LongComparison<>(comparison, bound);
+    }
+
+    /**
+     * Creates a comparison predicate specialized for `double`.
+     * Values are compared by {@link Double#compare(double, double)}, so that the result is the same as {@link Double#compareTo(Double)}
+     * for `NaN` and `-0.0`.
+     *
+     * @param comparison One of `GREATER_THAN`, `GREATER_THAN_OR_EQUAL_TO`, `LESS_THAN`, `LESS_THAN_OR_EQUAL_TO`, and `EQUAL_TO`.
+     * @param bound      A value to which a tested value is compared.
+     * @param <T>        The type of the value to be tested.
+     * @return A comparison predicate.
+     * @see ParameterizedLeafFactory#createIntComparison(ParameterizedLeafFactory, int)
+     */
+    public static <T extends Number> Predicate<T> createDoubleComparison(ParameterizedLeafFactory comparison, double bound) {
+      return new DoubleComparison<>(comparison, bound, bound);
+    }
+
+    /**
+     * Creates a comparison predicate for `float`, which is specialized for `double`.
+     * Since a `float` is widened to a `double` exactly, the result is the same as {@link Float#compareTo(Float)}.
+     *
+     * @param comparison One of `GREATER_THAN`, `GREATER_THAN_OR_EQUAL_TO`, `LESS_THAN`, `LESS_THAN_OR_EQUAL_TO`, and `EQUAL_TO`.
+     * @param bound      A value to which a tested value is compared.
+     * @param <T>        The type of the value to be tested.
+     * @return A comparison predicate.
+     * @see ParameterizedLeafFactory#createDoubleComparison(ParameterizedLeafFactory, double)
+     */
+    public static <T extends Number> Predicate<T> createFloatComparison(ParameterizedLeafFactory comparison, float bound) {
+      return new DoubleComparison<>(comparison, bound, bound);
+    }
+
+    private IntPredicate intComparison(int bound) {
+      switch (this) {
+      case GREATER_THAN:
+        return v -> v > bound;
+      case GREATER_THAN_OR_EQUAL_TO:
+        return v -> v >= bound;
+      case LESS_THAN:
+        return v -> v < bound;
+      case LESS_THAN_OR_EQUAL_TO:
+        return v -> v <= bound;
+      case EQUAL_TO:
+        return v -> v == bound;
+      default:
+        throw new IllegalArgumentException("Not a comparison: " + this);
+      }
+    }
+
+    private LongPredicate longComparison(long bound) {
+      switch (this) {
+      case GREATER_THAN:
+        return v -> v > bound;
+      case GREATER_THAN_OR_EQUAL_TO:
+        return v -> v >= bound;
+      case LESS_THAN:
+        return v -> v < bound;
+      case LESS_THAN_OR_EQUAL_TO:
+        return v -> v <= bound;
+      case EQUAL_TO:
+        return v -> v == bound;
+      default:
+        throw new IllegalArgumentException("Not a comparison: " + this);
+      }
+    }
+
+    private DoublePredicate doubleComparison(double bound) {
+      switch (this) {
+      case GREATER_THAN:
+        return v -> Double.compare(v, bound) > 0;
+      case GREATER_THAN_OR_EQUAL_TO:
+        return v -> Double.compare(v, bound) >= 0;
+      case LESS_THAN:
+        return v -> Double.compare(v, bound) < 0;
+      case LESS_THAN_OR_EQUAL_TO:
+        return v -> Double.compare(v, bound) <= 0;
+      case EQUAL_TO:
+        return v -> Double.compare(v, bound) == 0;
+      default:
+        throw new IllegalArgumentException("Not a comparison: " + this);
+      }
+    }
+  }
+
+  /**
+   * A base class of comparisons specialized for primitive types.
+   * An object of this class is equal to a generic comparison created by {@link ParameterizedLeafFactory#create(ParameterizedLeafFactory, List)}
+   * with the same comparison and bound and vice versa.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   */
+  private abstract static class PrimitiveComparison<T extends Number> extends LeafPredicate<T> {
+    PrimitiveComparison(ParameterizedLeafFactory comparison, List<Object> args, Predicate<? super T> predicate) {
+      super(comparison, args, comparison.formatterFactory().apply(args), predicate);
+    }
+
+    @Override
+    public int hashCode() {
+      return defaultHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj)
+        return true;
+      return obj instanceof LeafPredicate &&
+          ((LeafPredicate<?>) obj).defaultHashCode() == this.defaultHashCode() &&
+          Objects.equals(this.identityObject(), ((LeafPredicate<?>) obj).identityObject());
+    }
+  }
+
+  /**
+   * A comparison specialized for `int`, which tests a value without boxing when it is called through {@link IntComparison#test(int)}.
+   * An {@link EvaluationPlan} calls the method with the `int` value of a tested object, instead of the generic predicate.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   */
+  public static final class IntComparison<T extends Number> extends PrimitiveComparison<T> {
+    private final IntPredicate comparison;
+
+    /**
+     * @param comparison   A comparison.
+     * @param bound        A value to which a tested value is compared.
+     * @param boxedBound   `bound` in the type given by a user, which is printed and used for the identity of this object.
+     */
+    IntComparison(ParameterizedLeafFactory comparison, int bound, Number boxedBound) {
+      this(comparison, singletonList(boxedBound), comparison.intComparison(bound));
+    }
+
+    private IntComparison(ParameterizedLeafFactory comparison, List<Object> args, IntPredicate intPredicate) {
+      super(comparison, args, v -> intPredicate.test(v.intValue()));
+      this.comparison = intPredicate;
+    }
+
+    /**
+     * Tests a primitive value without boxing.
+     *
+     * @param value A value to be tested.
+     * @return The result of the comparison.
+     */
+    public boolean test(int value) {
+      return this.comparison.test(value);
+    }
+  }
+
+  /**
+   * A comparison specialized for `long`.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   * @see IntComparison
+   */
+  public static final class LongComparison<T extends Number> extends PrimitiveComparison<T> {
+    private final LongPredicate comparison;
+
+    LongComparison(ParameterizedLeafFactory comparison, long bound) {
+      this(comparison, singletonList(bound), comparison.longComparison(bound));
+    }
+
+    private LongComparison(ParameterizedLeafFactory comparison, List<Object> args, LongPredicate longPredicate) {
+      super(comparison, args, v -> longPredicate.test(v.longValue()));
+      this.comparison = longPredicate;
+    }
+
+    /**
+     * Tests a primitive value without boxing.
+     *
+     * @param value A value to be tested.
+     * @return The result of the comparison.
+     */
+    public boolean test(long value) {
+      return this.comparison.test(value);
+    }
+  }
+
+  /**
+   * A comparison specialized for `double`.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   * @see IntComparison
+   */
+  public static final class DoubleComparison<T extends Number> extends PrimitiveComparison<T> {
+    private final DoublePredicate comparison;
+
+    /**
+     * @param comparison   A comparison.
+     * @param bound        A value to which a tested value is compared.
+     * @param boxedBound   `bound` in the type given by a user, which is printed and used for the identity of this object.
+     */
+    DoubleComparison(ParameterizedLeafFactory comparison, double bound, Number boxedBound) {
+      this(comparison, singletonList(boxedBound), comparison.doubleComparison(bound));
+    }
+
+    private DoubleComparison(ParameterizedLeafFactory comparison, List<Object> args, DoublePredicate doublePredicate) {
+      super(comparison, args, v -> doublePredicate.test(v.doubleValue()));
+      this.comparison = doublePredicate;
+    }
+
+    /**
+     * Tests a primitive value without boxing.
+     *
+     * @param value A value to be tested.
+     * @return The result of the comparison.
+     */
+    public boolean test(double value) {
+      return this.comparison.test(value);
+    }
+  }
+
+  /**
+   * A predicate that checks if a value is in a range, which is printed in the interval notation (e.g., `[0,100)`).
+   * A range is equal to another with the same bounds regardless of its specialization, as well as {@link PrimitiveComparison}.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   * @see PrintablePredicateFactory#range(Comparable, boolean, Comparable, boolean)
+   */
+  public static class Range<T> extends LeafPredicate<T> {
+    Range(List<Object> args, Predicate<? super T> predicate) {
+      super(RANGE, args, () -> format("%s%s,%s%s",
+          (Boolean) args.get(1) ? "[" : "(",
+          args.get(0),
+          args.get(2),
+          (Boolean) args.get(3) ? "]" : ")"), predicate);
+    }
+
+    @Override
+    public int hashCode() {
+      return defaultHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj)
+        return true;
+      return obj instanceof Range &&
+          ((Range<?>) obj).defaultHashCode() == this.defaultHashCode() &&
+          Objects.equals(this.identityObject(), ((Range<?>) obj).identityObject());
+    }
+
+    /**
+     * Fuses a pair of a lower bound comparison (`>`, `>=`) and an upper bound comparison (`<`, `<=`) into a range.
+     * They can be given in any order.
+     * The comparisons must be of the same specialization (e.g., both {@link IntComparison}, or both generic), so that the
+     * range compares values in the same way as them.
+     *
+     * @param a A comparison.
+     * @param b Another comparison.
+     * @param <T> The type of the value tested by the predicates.
+     * @return A range equivalent to `a && b` or `null`, if they cannot be fused.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static <T> Predicate<T> fuse(Predicate<? super T> a, Predicate<? super T> b) {
+      LeafPredicate<?> lower, upper;
+      if (isLowerBound(a) && isUpperBound(b)) {
+        lower = (LeafPredicate<?>) a;
+        upper = (LeafPredicate<?>) b;
+      } else if (isLowerBound(b) && isUpperBound(a)) {
+        lower = (LeafPredicate<?>) b;
+        upper = (LeafPredicate<?>) a;
+      } else
+        return null;
+      if (lower.getClass() != upper.getClass() || lower.isSquashable() || upper.isSquashable())
+        return null;
+      List<Object> args = rangeArgs(
+          lower.args().get(0), lower.creator() == ParameterizedLeafFactory.GREATER_THAN_OR_EQUAL_TO,
+          upper.args().get(0), upper.creator() == ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO);
+      if (lower instanceof IntComparison)
+        return (Predicate<T>) new IntRange(args);
+      if (lower instanceof LongComparison)
+        return (Predicate<T>) new LongRange(args);
+      if (lower instanceof DoubleComparison)
+        return (Predicate<T>) new DoubleRange(args);
+      Predicate<Object> l = PrintablePredicate.unwrap((Predicate) lower);
+      Predicate<Object> u = PrintablePredicate.unwrap((Predicate) upper);
+      return new Range<>(args, v -> l.test(v) && u.test(v));
+    }
+
+    private static boolean isLowerBound(Predicate<?> predicate) {
+      return isComparison(predicate, ParameterizedLeafFactory.GREATER_THAN, ParameterizedLeafFactory.GREATER_THAN_OR_EQUAL_TO);
+    }
+
+    private static boolean isUpperBound(Predicate<?> predicate) {
+      return isComparison(predicate, ParameterizedLeafFactory.LESS_THAN, ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO);
+    }
+
+    private static boolean isComparison(Predicate<?> predicate, ParameterizedLeafFactory exclusive, ParameterizedLeafFactory inclusive) {
+      if (!(predicate instanceof LeafPredicate))
+        return false;
+      Object creator = ((LeafPredicate<?>) predicate).creator();
+      return creator == exclusive || creator == inclusive;
+    }
+  }
+
+  /**
+   * A range specialized for `int`, which tests a value without boxing when it is called through {@link IntRange#test(int)}.
+   * An {@link EvaluationPlan} calls the method with the `int` value of a tested object, instead of the generic predicate.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   */
+  public static final class IntRange<T extends Number> extends Range<T> {
+    private final int     lowerBound;
+    private final boolean lowerInclusive;
+    private final int     upperBound;
+    private final boolean upperInclusive;
+
+    IntRange(List<Object> args) {
+      this(args, ((Number) args.get(0)).intValue(), (Boolean) args.get(1), ((Number) args.get(2)).intValue(), (Boolean) args.get(3));
+    }
+
+    private IntRange(List<Object> args, int lowerBound, boolean lowerInclusive, int upperBound, boolean upperInclusive) {
+      super(args, v -> contains(v.intValue(), lowerBound, lowerInclusive, upperBound, upperInclusive));
+      this.lowerBound = lowerBound;
+      this.lowerInclusive = lowerInclusive;
+      this.upperBound = upperBound;
+      this.upperInclusive = upperInclusive;
+    }
+
+    /**
+     * Tests a primitive value without boxing.
+     *
+     * @param value A value to be tested.
+     * @return `true` if `value` is in this range.
+     */
+    public boolean test(int value) {
+      return contains(value, this.lowerBound, this.lowerInclusive, this.upperBound, this.upperInclusive);
+    }
+
+    private static boolean contains(int value, int lowerBound, boolean lowerInclusive, int upperBound, boolean upperInclusive) {
+      return (lowerInclusive ? value >= lowerBound : value > lowerBound) &&
+          (upperInclusive ? value <= upperBound : value < upperBound);
+    }
+  }
+
+  /**
+   * A range specialized for `long`.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   * @see IntRange
+   */
+  public static final class LongRange<T extends Number> extends Range<T> {
+    private final long    lowerBound;
+    private final boolean lowerInclusive;
+    private final long    upperBound;
+    private final boolean upperInclusive;
+
+    LongRange(List<Object> args) {
+      this(args, ((Number) args.get(0)).longValue(), (Boolean) args.get(1), ((Number) args.get(2)).longValue(), (Boolean) args.get(3));
+    }
+
+    private LongRange(List<Object> args, long lowerBound, boolean lowerInclusive, long upperBound, boolean upperInclusive) {
+      super(args, v -> contains(v.longValue(), lowerBound, lowerInclusive, upperBound, upperInclusive));
+      this.lowerBound = lowerBound;
+      this.lowerInclusive = lowerInclusive;
+      this.upperBound = upperBound;
+      this.upperInclusive = upperInclusive;
+    }
+
+    /**
+     * Tests a primitive value without boxing.
+     *
+     * @param value A value to be tested.
+     * @return `true` if `value` is in this range.
+     */
+    public boolean test(long value) {
+      return contains(value, this.lowerBound, this.lowerInclusive, this.upperBound, this.upperInclusive);
+    }
+
+    private static boolean contains(long value, long lowerBound, boolean lowerInclusive, long upperBound, boolean upperInclusive) {
+      return (lowerInclusive ? value >= lowerBound : value > lowerBound) &&
+          (upperInclusive ? value <= upperBound : value < upperBound);
+    }
+  }
+
+  /**
+   * A range specialized for `double`, whose values are compared by {@link Double#compare(double, double)}.
+   *
+   * @param <T> The type of the value tested as a {@link Predicate}.
+   * @see IntRange
+   */
+  public static final class DoubleRange<T extends Number> extends Range<T> {
+    private final double  lowerBound;
+    private final boolean lowerInclusive;
+    private final double  upperBound;
+    private final boolean upperInclusive;
+
+    DoubleRange(List<Object> args) {
+      this(args, ((Number) args.get(0)).doubleValue(), (Boolean) args.get(1), ((Number) args.get(2)).doubleValue(), (Boolean) args.get(3));
+    }
+
+    private DoubleRange(List<Object> args, double lowerBound, boolean lowerInclusive, double upperBound, boolean upperInclusive) {
+      super(args, v -> contains(v.doubleValue(), lowerBound, lowerInclusive, upperBound, upperInclusive));
+      this.lowerBound = lowerBound;
+      this.lowerInclusive = lowerInclusive;
+      this.upperBound = upperBound;
+      this.upperInclusive = upperInclusive;
+    }
+
+    /**
+     * Tests a primitive value without boxing.
+     *
+     * @param value A value to be tested.
+     * @return `true` if `value` is in this range.
+     */
+    public boolean test(double value) {
+      return contains(value, this.lowerBound, this.lowerInclusive, this.upperBound, this.upperInclusive);
+    }
+
+    private static boolean contains(double value, double lowerBound, boolean lowerInclusive, double upperBound, boolean upperInclusive) {
+      int l = Double.compare(value, lowerBound);
+      int u = Double.compare(value, upperBound);
+      return (lowerInclusive ? l >= 0 : l > 0) && (upperInclusive ? u <= 0 : u < 0);
+    }
   }
 
   private static class LeafPredicate<T> extends PrintablePredicate<T> implements Evaluable.LeafPred<T>, Evaluator.Explainable {
@@ -0,0 +1,81 @@
+package com.github.valid8j.pcond.core.printable;
+
+import com.github.valid8j.pcond.core.Evaluable;
+import com.github.valid8j.pcond.core.Evaluator;
+import com.github.valid8j.pcond.internals.AhoCorasick;
+
+import java.util.function.Predicate;
+
+import static com.github.valid8j.pcond.internals.InternalUtils.formatObject;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+
+/**
+ * A predicate that checks if a string contains all the given literals, optionally in the given order.
+ *
+ * The literals are searched for in one pass by an {@link AhoCorasick} automaton built on instantiation,
+ * instead of scanning the string once for each literal.
+ * Unlike {@link com.github.valid8j.pcond.experimentals.cursor.Cursors#findSubstrings(String...)}, an instance is
+ * stateless and can be reused.
+ * When the test fails, the first literal that is not found is reported.
+ */
+public final class SubstringsPredicate extends PrintablePredicate<String> implements Evaluable.LeafPred<String>, Evaluator.Explainable {
+  private final AhoCorasick automaton;
+  private final boolean     inOrder;
+
+  private SubstringsPredicate(AhoCorasick automaton, boolean inOrder) {
+    super(
+        SubstringsPredicate.class,
+        asList(inOrder, asList(automaton.tokens())),
+        () -> format("%s%s", inOrder ? "containsAllInOrder" : "containsAll", formatObject(asList(automaton.tokens()))),
+        s -> firstMissingToken(automaton, inOrder, s) < 0);
+    this.automaton = automaton;
+    this.inOrder = inOrder;
+  }
+
+  /**
+   * Returns a predicate that checks if a string contains all the `tokens`, regardless of their order.
+   *
+   * @param tokens Literals to be contained.
+   * @return A predicate.
+   */
+  public static Predicate<String> containsAll(String... tokens) {
+    return new SubstringsPredicate(new AhoCorasick(tokens), false);
+  }
+
+  /**
+   * Returns a predicate that checks if a string contains all the `tokens` in the given order, without overlaps.
+   *
+   * @param tokens Literals to be contained.
+   * @return A predicate.
+   */
+  public static Predicate<String> containsAllInOrder(String... tokens) {
+    return new SubstringsPredicate(new AhoCorasick(tokens), true);
+  }
+
+  @Override
+  public Predicate<? super String> predicate() {
+    return this.predicate;
+  }
+
+  @Override
+  public Object explainOutputExpectation() {
+    return format("%s: %s", this.inOrder ? "contains all in order" : "contains all", formatObject(asList(this.automaton.tokens())));
+  }
+
+  @Override
+  public Object explainActual(Object actualValue) {
+    if (!(actualValue instanceof String))
+      return actualValue;
+    int missing = firstMissingToken(this.automaton, this.inOrder, (String) actualValue);
+    if (missing < 0)
+      return actualValue;
+    return format("%s%n<%s:NOT FOUND>", actualValue, formatObject(this.automaton.tokens()[missing]));
+  }
+
+  private static int firstMissingToken(AhoCorasick automaton, boolean inOrder, String s) {
+    return inOrder ?
+        automaton.firstMissingTokenInOrder(s) :
+        automaton.firstMissingToken(s);
+  }
+}
@@ -79,7 +79,9 @@ public enum Cursors {
 
       @Override
       public Object snapshot() {
-        return originalString.substring(position);
+        String originalString = this.originalString;
+        int position = this.position;
+        return Evaluator.Snapshottable.Deferred.of(() -> originalString.substring(position));
       }
 
       @Override
@@ -211,7 +213,7 @@ public enum Cursors {
   }
 
   public static Predicate<String> findRegexes(String... regexes) {
-    return findRegexPatterns(Arrays.stream(regexes).map(Pattern::compile).toArray(Pattern[]::new));
+    return findRegexPatterns(Arrays.stream(regexes).map(InternalUtils::compilePattern).toArray(Pattern[]::new));
   }
 
   @SuppressWarnings("unchecked")
@@ -1,6 +1,8 @@
 package com.github.valid8j.pcond.forms;
 
+import com.github.valid8j.pcond.core.printable.MembershipPredicate;
 import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory;
+import com.github.valid8j.pcond.core.printable.SubstringsPredicate;
 import com.github.valid8j.pcond.core.refl.MethodQuery;
 import com.github.valid8j.pcond.core.refl.Parameter;
 import com.github.valid8j.pcond.internals.InternalChecks;
@@ -9,6 +11,7 @@ import com.github.valid8j.pcond.internals.InternalUtils;
 import java.util.Collection;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static com.github.valid8j.pcond.core.refl.ReflUtils.invokeMethod;
@@ -52,6 +55,47 @@ public class Predicates {
         return PrintablePredicateFactory.ParameterizedLeafFactory.create(PrintablePredicateFactory.ParameterizedLeafFactory.IS_EQUAL_TO, singletonList(value));
     }
 
+    /**
+     * Returns a predicate that checks if a value is equal to one of the `elements`.
+     * Unlike `anyOf(isEqualTo(a), isEqualTo(b), ...)`, the test takes constant time and a failure is reported in one line.
+     *
+     * @param elements Allowed values.
+     * @param <T>      The type of the value to be tested.
+     * @return A predicate.
+     * @see MembershipPredicate
+     */
+    public static <T> Predicate<T> isIn(Collection<?> elements) {
+        return MembershipPredicate.isIn(elements);
+    }
+
+    /**
+     * Returns a predicate that checks if a value is equal to none of the `elements`.
+     *
+     * @param elements Disallowed values.
+     * @param <T>      The type of the value to be tested.
+     * @return A predicate.
+     * @see MembershipPredicate
+     */
+    public static <T> Predicate<T> isNotIn(Collection<?> elements) {
+        return MembershipPredicate.isNotIn(elements);
+    }
+
+    /**
+     * Returns a predicate that checks if a value is in a range between `lowerBound` and `upperBound`.
+     * The predicate is printed in the interval notation, e.g., `[0,100)`.
+     *
+     * @param lowerBound     The lower bound of the range.
+     * @param lowerInclusive `true` if `lowerBound` itself is in the range.
+     * @param upperBound     The upper bound of the range.
+     * @param upperInclusive `true` if `upperBound` itself is in the range.
+     * @param <T>            The type of the value to be tested.
+     * @return A predicate.
+     * @see PrintablePredicateFactory#range(Comparable, boolean, Comparable, boolean)
+     */
+    public static <T extends Comparable<? super T>> Predicate<T> inRange(T lowerBound, boolean lowerInclusive, T upperBound, boolean upperInclusive) {
+        return PrintablePredicateFactory.range(lowerBound, lowerInclusive, upperBound, upperInclusive);
+    }
+
     public static <T> Predicate<T> isSameReferenceAs(T value) {
         return PrintablePredicateFactory.ParameterizedLeafFactory.create(PrintablePredicateFactory.ParameterizedLeafFactory.OBJECT_IS_SAME_AS, singletonList(value));
     }
@@ -114,11 +158,40 @@ public class Predicates {
         return PrintablePredicateFactory.ParameterizedLeafFactory.create(PrintablePredicateFactory.ParameterizedLeafFactory.MATCHES_REGEX, singletonList(regex));
     }
 
+    public static Predicate<String> matchesRegex(Pattern pattern) {
+        requireNonNull(pattern);
+        return PrintablePredicateFactory.ParameterizedLeafFactory.create(PrintablePredicateFactory.ParameterizedLeafFactory.MATCHES_PATTERN, singletonList(pattern));
+    }
+
     public static Predicate<String> containsString(String string) {
         requireNonNull(string);
         return PrintablePredicateFactory.ParameterizedLeafFactory.create(PrintablePredicateFactory.ParameterizedLeafFactory.CONTAINS_STRING, singletonList(string));
     }
 
+    /**
+     * Returns a predicate that checks if a string contains all the `tokens`, regardless of their order.
+     * The tokens are searched for in one pass over the string.
+     *
+     * @param tokens Literals to be contained.
+     * @return A predicate.
+     * @see SubstringsPredicate
+     */
+    public static Predicate<String> containsAllSubstrings(String... tokens) {
+        return SubstringsPredicate.containsAll(tokens);
+    }
+
+    /**
+     * Returns a predicate that checks if a string contains all the `tokens` in the given order.
+     * The tokens are searched for in one pass over the string.
+     *
+     * @param tokens Literals to be contained.
+     * @return A predicate.
+     * @see SubstringsPredicate
+     */
+    public static Predicate<String> containsAllSubstringsInOrder(String... tokens) {
+        return SubstringsPredicate.containsAllInOrder(tokens);
+    }
+
     public static Predicate<String> startsWith(String string) {
         requireNonNull(string);
         return PrintablePredicateFactory.ParameterizedLeafFactory.create(PrintablePredicateFactory.ParameterizedLeafFactory.STARTS_WITH, singletonList(string));
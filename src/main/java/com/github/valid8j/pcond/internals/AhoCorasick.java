@@ -0,0 +1,193 @@
+package com.github.valid8j.pcond.internals;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An Aho-Corasick automaton, which finds occurrences of multiple literals in a string in one pass.
+ *
+ * The automaton is built as a deterministic one over an alphabet compressed to the characters that appear in the
+ * literals, so that scanning costs one transition lookup per character of the input.
+ * A character is mapped to a column of the transition table by a direct table for ASCII and by a binary search otherwise.
+ * An instance is immutable and can be shared among threads.
+ */
+public final class AhoCorasick {
+  private static final int ROOT = 0;
+
+  private final String[] tokens;
+  /**
+   * Maps each token (by its index in `tokens`) to an identifier of a distinct literal.
+   */
+  private final int[]    literalOf;
+  private final int      numLiterals;
+  private final int[]    literalLengths;
+  private final char[]   alphabet;
+  private final int[]    asciiColumns;
+  private final int[][]  transitions;
+  /**
+   * Literals that end at each state, including ones reached through failure links.
+   */
+  private final int[][]  outputs;
+
+  /**
+   * Creates an automaton that searches for given `tokens`.
+   *
+   * @param tokens Literals to be searched for.
+   */
+  public AhoCorasick(String... tokens) {
+    this.tokens = Arrays.stream(tokens).map(t -> requireNonNull(t)).toArray(String[]::new);
+    Map<String, Integer> literals = new LinkedHashMap<>();
+    this.literalOf = new int[this.tokens.length];
+    for (int i = 0; i < this.tokens.length; i++)
+      this.literalOf[i] = literals.computeIfAbsent(this.tokens[i], k -> literals.size());
+    this.numLiterals = literals.size();
+    this.literalLengths = literals.keySet().stream().mapToInt(String::length).toArray();
+
+    TreeSet<Character> chars = new TreeSet<>();
+    literals.keySet().forEach(each -> each.chars().forEach(c -> chars.add((char) c)));
+    this.alphabet = new char[chars.size()];
+    int k = 0;
+    for (char each : chars)
+      this.alphabet[k++] = each;
+    this.asciiColumns = new int[128];
+    for (int i = 0; i < this.alphabet.length && this.alphabet[i] < 128; i++)
+      this.asciiColumns[this.alphabet[i]] = i + 1;
+
+    // Build a trie. Column 0 is for characters not in the alphabet.
+    List<int[]> trie = new ArrayList<>();
+    List<List<Integer>> out = new ArrayList<>();
+    trie.add(newRow());
+    out.add(new ArrayList<>());
+    for (Map.Entry<String, Integer> each : literals.entrySet()) {
+      int state = ROOT;
+      for (char c : each.getKey().toCharArray()) {
+        int column = columnOf(c);
+        if (trie.get(state)[column] <= 0) {
+          trie.get(state)[column] = trie.size();
+          trie.add(newRow());
+          out.add(new ArrayList<>());
+        }
+        state = trie.get(state)[column];
+      }
+      out.get(state).add(each.getValue());
+    }
+
+    // Complete the transitions in the breadth-first order, following failure links.
+    int[] failure = new int[trie.size()];
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int column = 0; column <= this.alphabet.length; column++) {
+      int next = trie.get(ROOT)[column];
+      if (next > 0) {
+        failure[next] = ROOT;
+        queue.add(next);
+      } else
+        trie.get(ROOT)[column] = ROOT;
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      out.get(state).addAll(out.get(failure[state]));
+      for (int column = 0; column <= this.alphabet.length; column++) {
+        int next = trie.get(state)[column];
+        if (next > 0) {
+          failure[next] = trie.get(failure[state])[column];
+          queue.add(next);
+        } else
+          trie.get(state)[column] = trie.get(failure[state])[column];
+      }
+    }
+    this.transitions = trie.toArray(new int[0][]);
+    this.outputs = out.stream().map(each -> each.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+  }
+
+  /**
+   * Returns the index of the first token (in the order given to the constructor) which is not contained by `text`,
+   * or `-1` if all the tokens are contained.
+   *
+   * @param text A string to be scanned.
+   * @return The index of the first missing token, or `-1`.
+   */
+  public int firstMissingToken(String text) {
+    boolean[] found = new boolean[this.numLiterals];
+    int remaining = this.numLiterals;
+    for (int i = 0; i < this.numLiterals; i++) {
+      if (this.literalLengths[i] == 0) {
+        found[i] = true;
+        remaining--;
+      }
+    }
+    int state = ROOT;
+    for (int i = 0, n = text.length(); i < n && remaining > 0; i++) {
+      state = this.transitions[state][columnOf(text.charAt(i))];
+      for (int each : this.outputs[state]) {
+        if (!found[each]) {
+          found[each] = true;
+          remaining--;
+        }
+      }
+    }
+    for (int i = 0; i < this.tokens.length; i++)
+      if (!found[this.literalOf[i]])
+        return i;
+    return -1;
+  }
+
+  /**
+   * Returns the index of the first token which is not contained by `text` in the order given to the constructor,
+   * or `-1` if all the tokens are contained in the order.
+   * A token is searched for from the end of the occurrence of the previous one, i.e., occurrences don't overlap.
+   *
+   * @param text A string to be scanned.
+   * @return The index of the first missing token, or `-1`.
+   */
+  public int firstMissingTokenInOrder(String text) {
+    int expected = 0;
+    int nextStart = 0;
+    int state = ROOT;
+    for (int i = 0, n = text.length(); expected < this.tokens.length; i++) {
+      while (expected < this.tokens.length && this.tokens[expected].isEmpty())
+        expected++;
+      if (expected == this.tokens.length || i == n)
+        break;
+      state = this.transitions[state][columnOf(text.charAt(i))];
+      int literal = this.literalOf[expected];
+      for (int each : this.outputs[state]) {
+        if (each == literal && i + 1 - this.literalLengths[literal] >= nextStart) {
+          expected++;
+          nextStart = i + 1;
+          break;
+        }
+      }
+    }
+    while (expected < this.tokens.length && this.tokens[expected].isEmpty())
+      expected++;
+    return expected == this.tokens.length ? -1 : expected;
+  }
+
+  /**
+   * Returns the tokens given to the constructor.
+   *
+   * @return A copy of the tokens.
+   */
+  public String[] tokens() {
+    return this.tokens.clone();
+  }
+
+  private int[] newRow() {
+    return new int[this.alphabet.length + 1];
+  }
+
+  private int columnOf(char c) {
+    if (c < 128)
+      return this.asciiColumns[c];
+    int ret = Arrays.binarySearch(this.alphabet, c);
+    return ret < 0 ? 0 : ret + 1;
+  }
+}
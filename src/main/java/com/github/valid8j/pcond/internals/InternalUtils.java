@@ -13,6 +13,7 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
@@ -30,6 +31,18 @@ public enum InternalUtils {
     throw new UnsupportedOperationException("Applying: '" + v + "' was failed, because this is a dummy predicate.");
   });
 
+  private static final int                  MAX_CACHED_PATTERNS = 256;
+  /**
+   * A cache of compiled patterns, whose least recently used entry is evicted when it is full.
+   * Accesses are guarded by the map itself.
+   */
+  private static final Map<String, Pattern> PATTERNS            = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+      return this.size() > MAX_CACHED_PATTERNS;
+    }
+  };
+
   public static String formatObject(Object value) {
     return formatObject(value, summarizedStringLength());
   }
@@ -310,4 +323,27 @@ public enum InternalUtils {
   public static <T> Function<T, T> trivialIdentityFunction() {
     return Functions.identity();
   }
+
+  /**
+   * Returns a compiled pattern of a given `regex` from a shared cache.
+   * The cache holds at most a fixed number of patterns and evicts the least recently used one when it is full.
+   * A pattern is compiled outside the lock of the cache, so a slow compilation doesn't block other threads.
+   *
+   * @param regex A regular expression.
+   * @return A compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException If `regex` is not valid.
+   */
+  public static Pattern compilePattern(String regex) {
+    requireNonNull(regex);
+    synchronized (PATTERNS) {
+      Pattern ret = PATTERNS.get(regex);
+      if (ret != null)
+        return ret;
+    }
+    Pattern compiled = Pattern.compile(regex);
+    synchronized (PATTERNS) {
+      Pattern ret = PATTERNS.putIfAbsent(regex, compiled);
+      return ret != null ? ret : compiled;
+    }
+  }
 }
@@ -0,0 +1,5 @@
+/**
+ * A package to place utility classes internally used by the `pcond` library.
+ * 
+ */
+package com.github.valid8j.pcond.internals;
@@ -0,0 +1,4 @@
+/**
+ * A package to store classes for "printable conditions".
+ */
+package com.github.valid8j.pcond;
@@ -0,0 +1,80 @@
+package com.github.valid8j.pcond.validator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An implementation of {@link ValidationEvents} backed by Java Flight Recorder.
+ * This class must be loaded only when `jdk.jfr` is available (see {@link ValidationEvents#instance()}).
+ */
+final class JfrValidationEvents implements ValidationEvents {
+  private static final EventType CHECK_FAILED = EventType.getEventType(CheckFailed.class);
+  private static final EventType SLOW_CHECK   = EventType.getEventType(SlowCheck.class);
+
+  @Override
+  public boolean isEnabled() {
+    return CHECK_FAILED.isEnabled() || SLOW_CHECK.isEnabled();
+  }
+
+  @Override
+  public void checkFailed(MessageComposer.Category category, Predicate<?> predicate, long elapsedNanos) {
+    CheckFailed event = new CheckFailed();
+    if (!event.shouldCommit())
+      return;
+    event.category = Objects.toString(category);
+    event.predicate = Objects.toString(predicate);
+    event.elapsed = elapsedNanos;
+    event.commit();
+  }
+
+  @Override
+  public void slowCheck(MessageComposer.Category category, Predicate<?> predicate, long elapsedNanos) {
+    SlowCheck event = new SlowCheck();
+    if (!event.shouldCommit())
+      return;
+    event.category = Objects.toString(category);
+    event.predicate = Objects.toString(predicate);
+    event.elapsed = elapsedNanos;
+    event.commit();
+  }
+
+  @Name("com.github.valid8j.CheckFailed")
+  @Label("Check Failed")
+  @Category("valid8j")
+  @Description("A value didn't satisfy a condition checked by a validator.")
+  static class CheckFailed extends Event {
+    @Label("Category")
+    String category;
+
+    @Label("Predicate")
+    String predicate;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+  }
+
+  @Name("com.github.valid8j.SlowCheck")
+  @Label("Slow Check")
+  @Category("valid8j")
+  @Description("A check took longer than the configured threshold.")
+  static class SlowCheck extends Event {
+    @Label("Category")
+    String category;
+
+    @Label("Predicate")
+    String predicate;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+  }
+}
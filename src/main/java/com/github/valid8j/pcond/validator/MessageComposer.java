@@ -55,6 +55,29 @@ public interface MessageComposer {
    */
   <T> String composeMessageForValidation(T value, Predicate<? super T> predicate);
 
+  /**
+   * A category of checks, each of which corresponds to a method of {@link MessageComposer} used to compose a message
+   * for a failure.
+   */
+  enum Category {
+    /**
+     * A precondition, checked by {@link MessageComposer#composeMessageForPrecondition(Object, Predicate)}.
+     */
+    PRECONDITION,
+    /**
+     * A postcondition, checked by {@link MessageComposer#composeMessageForPostcondition(Object, Predicate)}.
+     */
+    POSTCONDITION,
+    /**
+     * A user input validation, checked by {@link MessageComposer#composeMessageForValidation(Object, Predicate)}.
+     */
+    VALIDATION,
+    /**
+     * An invariant condition, a test assertion, or a test assumption, checked by {@link MessageComposer#composeMessageForAssertion(Object, Predicate)}.
+     */
+    ASSERTION,
+  }
+
   /**
    * A default implementation of `MessageComposer`.
    */
@@ -0,0 +1,107 @@
+package com.github.valid8j.pcond.validator;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A policy that decides whether a check is performed or skipped.
+ *
+ * A check is performed with a probability given by a rate, which can be overridden for each {@link MessageComposer.Category}.
+ * A skipped ("sampled out") check returns the value immediately, without evaluating the predicate.
+ * The decision is made by a thread-local pseudo random number generator, so it doesn't allocate objects or
+ * contend with other threads.
+ *
+ * Test assertions and assumptions (`Validator#assertThat` and `Validator#assumeThat`) are never sampled out.
+ */
+public final class SamplingPolicy {
+  /**
+   * A policy that performs all checks.
+   */
+  public static final SamplingPolicy ALWAYS = new SamplingPolicy(1.0, new EnumMap<>(MessageComposer.Category.class));
+
+  private final double[] rates;
+
+  private SamplingPolicy(double rate, Map<MessageComposer.Category, Double> overrides) {
+    this.rates = new double[MessageComposer.Category.values().length];
+    Arrays.fill(this.rates, validateRate(rate));
+    overrides.forEach((k, v) -> this.rates[k.ordinal()] = validateRate(v));
+  }
+
+  /**
+   * Returns `true` if a check of the given `category` should be performed.
+   *
+   * @param category A category of the check.
+   * @return `true` - the check should be performed / `false` - it should be skipped.
+   */
+  public boolean shouldCheck(MessageComposer.Category category) {
+    double rate = this.rates[category.ordinal()];
+    return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  /**
+   * Returns a rate at which checks of the given `category` are performed.
+   *
+   * @param category A category of checks.
+   * @return A rate from `0.0` to `1.0`.
+   */
+  public double rateFor(MessageComposer.Category category) {
+    return this.rates[category.ordinal()];
+  }
+
+  @Override
+  public String toString() {
+    Map<MessageComposer.Category, Double> map = new EnumMap<>(MessageComposer.Category.class);
+    for (MessageComposer.Category each : MessageComposer.Category.values())
+      map.put(each, rateFor(each));
+    return "samplingPolicy:" + map;
+  }
+
+  /**
+   * Creates a policy from properties.
+   * `samplingRate` gives the global rate (`1.0` by default) and `samplingRate.{CATEGORY}` (e.g., `samplingRate.POSTCONDITION`)
+   * overrides it for a category.
+   *
+   * @param properties Properties from which a policy is created.
+   * @return A sampling policy.
+   */
+  public static SamplingPolicy fromProperties(Properties properties) {
+    Builder builder = new Builder().rate(Double.parseDouble(properties.getProperty("samplingRate", "1.0")));
+    for (MessageComposer.Category each : MessageComposer.Category.values()) {
+      String v = properties.getProperty("samplingRate." + each.name());
+      if (v != null)
+        builder.rate(each, Double.parseDouble(v));
+    }
+    return builder.build();
+  }
+
+  private static double validateRate(double rate) {
+    if (!(0.0 <= rate && rate <= 1.0))
+      throw new IllegalArgumentException("Sampling rate must be from 0.0 to 1.0: " + rate);
+    return rate;
+  }
+
+  public static class Builder {
+    private       double                              rate      = 1.0;
+    private final Map<MessageComposer.Category, Double> overrides = new EnumMap<>(MessageComposer.Category.class);
+
+    public Builder() {
+    }
+
+    public Builder rate(double rate) {
+      this.rate = rate;
+      return this;
+    }
+
+    public Builder rate(MessageComposer.Category category, double rate) {
+      this.overrides.put(category, rate);
+      return this;
+    }
+
+    public SamplingPolicy build() {
+      return new SamplingPolicy(this.rate, this.overrides);
+    }
+  }
+}
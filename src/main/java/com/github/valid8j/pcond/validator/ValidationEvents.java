@@ -0,0 +1,81 @@
+package com.github.valid8j.pcond.validator;
+
+import java.util.function.Predicate;
+
+/**
+ * Emits events about checks performed by {@link Validator}, which can be recorded by a profiler.
+ *
+ * If Java Flight Recorder (`jdk.jfr`) is available in the runtime, events are emitted as JFR events.
+ * Otherwise, this does nothing.
+ * A caller should check {@link ValidationEvents#isEnabled()} before measuring time, so that no overhead is
+ * incurred unless a recording is in progress.
+ */
+interface ValidationEvents {
+  ValidationEvents NOOP = new ValidationEvents() {
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+
+    @Override
+    public void checkFailed(MessageComposer.Category category, Predicate<?> predicate, long elapsedNanos) {
+    }
+
+    @Override
+    public void slowCheck(MessageComposer.Category category, Predicate<?> predicate, long elapsedNanos) {
+    }
+  };
+
+  /**
+   * Returns `true` if any of the events is being recorded.
+   *
+   * @return `true` if events are recorded.
+   */
+  boolean isEnabled();
+
+  /**
+   * Emits an event for a failure of a check.
+   *
+   * @param category     The category of the check, or `null` if unknown.
+   * @param predicate    The predicate that was not satisfied.
+   * @param elapsedNanos Time spent for the check until the failure was reported.
+   */
+  void checkFailed(MessageComposer.Category category, Predicate<?> predicate, long elapsedNanos);
+
+  /**
+   * Emits an event for a check that took longer than {@link Validator.Configuration#slowCheckThresholdNanos()}.
+   *
+   * @param category     The category of the check, or `null` if unknown.
+   * @param predicate    The predicate that was tested.
+   * @param elapsedNanos Time spent for the check.
+   */
+  void slowCheck(MessageComposer.Category category, Predicate<?> predicate, long elapsedNanos);
+
+  /**
+   * Returns an instance suitable for the current runtime.
+   *
+   * @return An instance of this interface.
+   */
+  static ValidationEvents instance() {
+    return Holder.INSTANCE;
+  }
+
+  final class Holder {
+    private static final ValidationEvents INSTANCE = create();
+
+    private Holder() {
+    }
+
+    private static ValidationEvents create() {
+      try {
+        Class.forName("jdk.jfr.Event");
+        // Loaded reflectively so that this interface can be used on a runtime without jdk.jfr.
+        return (ValidationEvents) Class.forName("com.github.valid8j.pcond.validator.JfrValidationEvents").getDeclaredConstructor().newInstance();
+      } catch (ReflectiveOperationException | LinkageError e) {
+        // jdk.jfr is absent or the sink cannot be instantiated (including an exception thrown by its constructor,
+        // which is wrapped by InvocationTargetException). Events are not emitted in this case.
+        return NOOP;
+      }
+    }
+  }
+}
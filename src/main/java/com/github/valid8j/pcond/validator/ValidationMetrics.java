@@ -0,0 +1,333 @@
+package com.github.valid8j.pcond.validator;
+
+import com.github.valid8j.pcond.core.identifieable.Identifiable;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A registry of metrics of checks performed by a {@link Validator}.
+ *
+ * For each top-level predicate, the number of passes, the number of failures, and a latency histogram are recorded.
+ * Predicates whose identities are stable (see {@link PrintablePredicateFactory#hasStableIdentity(Predicate)}), e.g.,
+ * `isEqualTo("hello")` and `and(isNotNull(), greaterThanOrEqualTo(0))`, are identified by {@link Identifiable#identityObject()},
+ * so that equal predicates created on every call at the same call site share a record.
+ * Other predicates, such as ones created from lambdas, are identified by reference, and held weakly so that their
+ * records are removed when they are collected.
+ *
+ * At most {@link ValidationMetrics#maxRecords()} records are kept (approximately, under contention).
+ * Checks by predicates beyond it are added up in a single record named {@value ValidationMetrics#OTHERS}, so that
+ * checks with per-call arguments (e.g., `isEqualTo(requestId)`) don't grow a registry without bound.
+ *
+ * Counters are {@link LongAdder}s and histograms are fixed arrays of atomic counters, so recording a check doesn't
+ * block another thread.
+ * A registry is used only when it is set to a configuration by {@link Validator.Configuration.Builder#metrics(ValidationMetrics)}.
+ */
+public final class ValidationMetrics {
+  /**
+   * The name of the record which adds up checks by predicates beyond {@link ValidationMetrics#maxRecords()}.
+   */
+  public static final String OTHERS = "(others)";
+
+  /**
+   * The default maximum number of records.
+   */
+  public static final int DEFAULT_MAX_RECORDS = 1024;
+
+  private final ConcurrentMap<Object, Record> records = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object>         queue   = new ReferenceQueue<>();
+  private final int                            maxRecords;
+  private volatile Record                      others  = new Record(OTHERS);
+
+  /**
+   * Creates a registry that keeps at most {@link ValidationMetrics#DEFAULT_MAX_RECORDS} records.
+   */
+  public ValidationMetrics() {
+    this(DEFAULT_MAX_RECORDS);
+  }
+
+  /**
+   * Creates a registry that keeps at most `maxRecords` records.
+   *
+   * @param maxRecords The maximum number of records.
+   */
+  public ValidationMetrics(int maxRecords) {
+    if (maxRecords < 0)
+      throw new IllegalArgumentException("maxRecords must not be negative: " + maxRecords);
+    this.maxRecords = maxRecords;
+  }
+
+  /**
+   * Returns the maximum number of records kept by this registry.
+   *
+   * @return The maximum number of records.
+   */
+  public int maxRecords() {
+    return this.maxRecords;
+  }
+
+  /**
+   * Records a result of a check.
+   *
+   * @param predicate    A predicate used for the check.
+   * @param passed       `true` if the check passed.
+   * @param elapsedNanos Time spent for the check.
+   */
+  public void record(Predicate<?> predicate, boolean passed, long elapsedNanos) {
+    requireNonNull(predicate);
+    boolean byIdentity = PrintablePredicateFactory.hasStableIdentity(predicate);
+    Object lookupKey = byIdentity ?
+        ((Identifiable) predicate).identityObject() :
+        new Lookup(predicate);
+    Record record = this.records.get(lookupKey);
+    if (record == null)
+      record = register(predicate, byIdentity ? lookupKey : new WeakKey(predicate, this.queue));
+    record.record(passed, elapsedNanos);
+  }
+
+  /**
+   * Returns a snapshot of the metrics recorded so far, sorted in the descending order of the total time spent.
+   * Since checks can be recorded concurrently, counters in a snapshot are not necessarily consistent with each other.
+   *
+   * @return A list of statistics, one for each predicate.
+   */
+  public List<Stats> snapshot() {
+    expungeStaleRecords();
+    List<Stats> ret = new ArrayList<>(this.records.size() + 1);
+    this.records.values().forEach(each -> ret.add(each.snapshot()));
+    Stats others = this.others.snapshot();
+    if (others.count() > 0)
+      ret.add(others);
+    ret.sort(Comparator.comparingLong(Stats::totalNanos).reversed());
+    return Collections.unmodifiableList(ret);
+  }
+
+  /**
+   * Removes all the records.
+   */
+  public void reset() {
+    this.records.clear();
+    this.others = new Record(OTHERS);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder b = new StringBuilder();
+    for (Stats each : snapshot())
+      b.append(each).append(String.format("%n"));
+    return b.toString();
+  }
+
+  private Record register(Predicate<?> predicate, Object key) {
+    expungeStaleRecords();
+    if (this.records.size() >= this.maxRecords)
+      return this.others;
+    return this.records.computeIfAbsent(key, k -> new Record(String.valueOf(predicate)));
+  }
+
+  private void expungeStaleRecords() {
+    Object each;
+    while ((each = this.queue.poll()) != null)
+      this.records.remove(each);
+  }
+
+  /**
+   * A key of a predicate compared by reference, which doesn't prevent the predicate from being collected.
+   */
+  private static final class WeakKey extends WeakReference<Object> {
+    private final int hashCode;
+
+    WeakKey(Object referent, ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.hashCode = System.identityHashCode(referent);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj)
+        return true;
+      Object referent = this.get();
+      return referent != null && obj instanceof WeakKey && ((WeakKey) obj).get() == referent;
+    }
+  }
+
+  /**
+   * A transient key to look up a record of a predicate compared by reference, without creating a {@link WeakKey}.
+   */
+  private static final class Lookup {
+    private final Object referent;
+
+    Lookup(Object referent) {
+      this.referent = referent;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this.referent);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof WeakKey && ((WeakKey) obj).get() == this.referent;
+    }
+  }
+
+  private static final class Record {
+    final String          name;
+    final LongAdder       passes     = new LongAdder();
+    final LongAdder       failures   = new LongAdder();
+    final LongAdder       totalNanos = new LongAdder();
+    final AtomicLongArray buckets    = new AtomicLongArray(Histogram.NUM_BUCKETS);
+
+    Record(String name) {
+      this.name = name;
+    }
+
+    void record(boolean passed, long elapsedNanos) {
+      (passed ? this.passes : this.failures).increment();
+      this.totalNanos.add(elapsedNanos);
+      this.buckets.incrementAndGet(Histogram.bucketOf(elapsedNanos));
+    }
+
+    Stats snapshot() {
+      long[] counts = new long[Histogram.NUM_BUCKETS];
+      for (int i = 0; i < counts.length; i++)
+        counts[i] = this.buckets.get(i);
+      return new Stats(this.name, this.passes.sum(), this.failures.sum(), this.totalNanos.sum(), counts);
+    }
+  }
+
+  /**
+   * Statistics of checks by a predicate at a certain moment.
+   */
+  public static final class Stats {
+    private final String name;
+    private final long   passes;
+    private final long   failures;
+    private final long   totalNanos;
+    private final long[] bucketCounts;
+
+    Stats(String name, long passes, long failures, long totalNanos, long[] bucketCounts) {
+      this.name = name;
+      this.passes = passes;
+      this.failures = failures;
+      this.totalNanos = totalNanos;
+      this.bucketCounts = bucketCounts;
+    }
+
+    /**
+     * Returns a string representation of the predicate.
+     *
+     * @return The name of the predicate.
+     */
+    public String name() {
+      return this.name;
+    }
+
+    public long passes() {
+      return this.passes;
+    }
+
+    public long failures() {
+      return this.failures;
+    }
+
+    public long count() {
+      return this.passes + this.failures;
+    }
+
+    public long totalNanos() {
+      return this.totalNanos;
+    }
+
+    /**
+     * Returns the number of checks recorded in each bucket of the latency histogram.
+     * A bucket at index `i` covers durations from {@link Histogram#lowerBoundOf(int)} to {@link Histogram#upperBoundOf(int)} (inclusive).
+     *
+     * @return A copy of the bucket counts.
+     */
+    public long[] bucketCounts() {
+      return this.bucketCounts.clone();
+    }
+
+    /**
+     * Returns an upper bound of the latency at a given percentile.
+     * The error is at most 25% of the value because of the resolution of the histogram.
+     *
+     * @param percentile A percentile, from `0` to `100`.
+     * @return The upper bound of the bucket where the percentile falls, or `0` if nothing is recorded.
+     */
+    public long percentileNanos(double percentile) {
+      long total = 0;
+      for (long each : this.bucketCounts)
+        total += each;
+      if (total == 0)
+        return 0;
+      long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+      long seen = 0;
+      for (int i = 0; i < this.bucketCounts.length; i++) {
+        seen += this.bucketCounts[i];
+        if (seen >= rank)
+          return Histogram.upperBoundOf(i);
+      }
+      return Histogram.upperBoundOf(this.bucketCounts.length - 1);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s: passes=%d, failures=%d, total=%dns, p50<=%dns, p99<=%dns",
+          this.name, this.passes, this.failures, this.totalNanos, percentileNanos(50), percentileNanos(99));
+    }
+  }
+
+  /**
+   * A log-linear bucketing of durations in nanoseconds.
+   * Each power of two is divided into {@link Histogram#SUB_BUCKETS} linear buckets, so that a bucket is at most
+   * 25% as wide as its lower bound.
+   */
+  public enum Histogram {
+    ;
+    private static final int SUB_BUCKET_BITS = 2;
+    static final         int SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+    static final         int NUM_BUCKETS     = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    static int bucketOf(long nanos) {
+      if (nanos < SUB_BUCKETS)
+        return (int) Math.max(0, nanos);
+      int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+      int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    public static long lowerBoundOf(int bucket) {
+      if (bucket < SUB_BUCKETS)
+        return bucket;
+      int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+      int subBucket = bucket % SUB_BUCKETS;
+      return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    public static long upperBoundOf(int bucket) {
+      return bucket == NUM_BUCKETS - 1 ?
+          Long.MAX_VALUE :
+          lowerBoundOf(bucket + 1) - 1;
+    }
+  }
+}
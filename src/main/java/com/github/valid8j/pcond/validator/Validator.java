@@ -1,8 +1,8 @@
 package com.github.valid8j.pcond.validator;
 
 import com.github.valid8j.pcond.core.*;
+import com.github.valid8j.pcond.core.printable.PrintablePredicate;
 import com.github.valid8j.pcond.forms.Predicates;
-import com.github.valid8j.pcond.internals.InternalUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,22 +14,26 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.BaseStream;
 
 import static com.github.valid8j.pcond.internals.InternalUtils.toEvaluableIfNecessary;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static com.github.valid8j.pcond.validator.Validator.Configuration.Utils.instantiate;
-import static com.github.valid8j.pcond.validator.Validator.Configuration.Utils.loadPcondProperties;
 
 /**
  * An interface of a policy for behaviours on 'contract violations'.
  */
 public interface Validator {
   /**
-   * A constant field that holds the default provider instance.
+   * A field kept for compatibility, which holds the validator for the current thread.
+   * `get()` is equivalent to {@link Validator#instance()}, and `set(...)` and `remove()` override the validator
+   * only for the current thread, as {@link Validator#reconfigureCurrentThread(Consumer)} and {@link Validator#resetCurrentThread()} do.
+   *
+   * @deprecated Use {@link Validator#instance()}, {@link Validator#reconfigure(Consumer)}, or {@link Validator#reconfigureCurrentThread(Consumer)} instead.
    */
-  ThreadLocal<Validator> INSTANCE = ThreadLocal.withInitial(() -> create(loadPcondProperties()));
-
+  @Deprecated
+  ThreadLocal<Validator> INSTANCE = new ValidatorInstances.LegacyThreadLocal();
 
   /**
    * Returns a configuration object that determines behaviors of this object.
@@ -116,9 +120,12 @@ public interface Validator {
    * @return The `value`, if `cond` is satisfied.
    */
   default <T> T require(T value, Predicate<? super T> cond, Function<String, Throwable> exceptionFactory) {
+    if (!configuration().samplingPolicy().shouldCheck(MessageComposer.Category.PRECONDITION))
+      return value;
     return checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.PRECONDITION,
         this.configuration().messageComposer()::composeMessageForPrecondition,
         explanation -> exceptionFactory.apply(explanation.toString()));
   }
@@ -212,9 +219,12 @@ public interface Validator {
   }
 
   default <T> T validate_2(T value, Predicate<? super T> cond, ExceptionFactory<Throwable> exceptionFactory) {
+    if (!configuration().samplingPolicy().shouldCheck(MessageComposer.Category.VALIDATION))
+      return value;
     return checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.VALIDATION,
         configuration().messageComposer()::composeMessageForValidation,
         exceptionFactory);
   }
@@ -277,9 +287,12 @@ public interface Validator {
    * @return The value.
    */
   default <T> T ensure(T value, Predicate<? super T> cond, Function<String, Throwable> exceptionComposer) {
+    if (!configuration().samplingPolicy().shouldCheck(MessageComposer.Category.POSTCONDITION))
+      return value;
     return checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.POSTCONDITION,
         configuration().messageComposer()::composeMessageForPostcondition,
         explanation -> exceptionComposer.apply(explanation.toString()));
   }
@@ -296,9 +309,12 @@ public interface Validator {
    * @param <T>   The type of `value`.
    */
   default <T> void checkInvariant(T value, Predicate<? super T> cond) {
+    if (!configuration().samplingPolicy().shouldCheck(MessageComposer.Category.ASSERTION))
+      return;
     checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.ASSERTION,
         configuration().messageComposer()::composeMessageForAssertion,
         explanation -> configuration().exceptionComposer().forAssert().exceptionInvariantConditionViolation(explanation.toString()));
   }
@@ -315,9 +331,12 @@ public interface Validator {
    * @param <T>   The type of `value`.
    */
   default <T> void checkPrecondition(T value, Predicate<? super T> cond) {
+    if (!configuration().samplingPolicy().shouldCheck(MessageComposer.Category.PRECONDITION))
+      return;
     checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.PRECONDITION,
         configuration().messageComposer()::composeMessageForPrecondition,
         explanation -> configuration().exceptionComposer().forAssert().exceptionPreconditionViolation(explanation.toString()));
   }
@@ -334,9 +353,12 @@ public interface Validator {
    * @param <T>   The type of `value`.
    */
   default <T> void checkPostcondition(T value, Predicate<? super T> cond) {
+    if (!configuration().samplingPolicy().shouldCheck(MessageComposer.Category.POSTCONDITION))
+      return;
     checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.POSTCONDITION,
         configuration().messageComposer()::composeMessageForPostcondition,
         explanation -> configuration().exceptionComposer().forAssert().exceptionPostconditionViolation(explanation.toString()));
   }
@@ -354,6 +376,7 @@ public interface Validator {
     checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.ASSERTION,
         configuration().messageComposer()::composeMessageForAssertion,
         explanation -> configuration().exceptionComposer().forAssertThat().testFailedException(explanation, configuration().reportComposer()));
   }
@@ -371,10 +394,58 @@ public interface Validator {
     checkValueAndThrowIfFails(
         value,
         cond,
+        MessageComposer.Category.ASSERTION,
         configuration().messageComposer()::composeMessageForAssertion,
         explanation -> configuration().exceptionComposer().forAssertThat().testSkippedException(explanation, configuration().reportComposer()));
   }
 
+  /**
+   * Checks if the given `value` satisfies `cond` just as {@link Validator#checkValueAndThrowIfFails(Object, Predicate, BiFunction, ExceptionFactory)} does,
+   * and emits events for a failure and a slow check (see {@link Configuration#slowCheckThresholdNanos()}) when
+   * Java Flight Recorder is recording them.
+   * The result and the time spent are also recorded in {@link Configuration#metrics()}, if any.
+   * When no recording is in progress and no metrics registry is configured, no time is measured.
+   *
+   * @param <T>                       The type of the `value`.
+   * @param value                     A value to be checked.
+   * @param cond                      A predicate that checks the `value`.
+   * @param category                  The category of the check.
+   * @param messageComposerFunction   A function that composes an error message from the `value` and the predicate `cond`.
+   * @param exceptionComposerFunction A function that creates an exception from a failure report.
+   * @return The `value` itself.
+   */
+  default <T> T checkValueAndThrowIfFails(
+      T value,
+      Predicate<? super T> cond,
+      MessageComposer.Category category,
+      BiFunction<T, Predicate<? super T>, String> messageComposerFunction,
+      ExceptionFactory<Throwable> exceptionComposerFunction) {
+    ValidationEvents events = ValidationEvents.instance();
+    ValidationMetrics metrics = this.configuration().metrics().orElse(null);
+    boolean eventsEnabled = events.isEnabled();
+    if (!eventsEnabled && metrics == null)
+      return checkValueAndThrowIfFails(value, cond, messageComposerFunction, exceptionComposerFunction);
+    long startedAt = System.nanoTime();
+    boolean passed = false;
+    try {
+      T ret = checkValueAndThrowIfFails(value, cond, messageComposerFunction, !eventsEnabled ?
+          exceptionComposerFunction :
+          explanation -> {
+            events.checkFailed(category, cond, System.nanoTime() - startedAt);
+            return exceptionComposerFunction.apply(explanation);
+          });
+      passed = true;
+      return ret;
+    } finally {
+      long elapsed = System.nanoTime() - startedAt;
+      if (metrics != null)
+        metrics.record(cond, passed, elapsed);
+      long threshold = this.configuration().slowCheckThresholdNanos();
+      if (eventsEnabled && threshold > 0 && elapsed >= threshold)
+        events.slowCheck(category, cond, elapsed);
+    }
+  }
+
   /**
    * The core method of the `ValueChecker`.
    * This method checks if the given `evaluationContext` satisfies a condition, passed as `cond`.
@@ -398,16 +469,25 @@ public interface Validator {
       Predicate<? super T> cond,
       BiFunction<T, Predicate<? super T>, String> messageComposerFunction,
       ExceptionFactory<Throwable> exceptionComposerFunction) {
+    if (this.configuration().useEvaluator() && this.configuration().useEvaluatorOnlyOnFailure() && Utils.passesWithoutEvaluator(value, cond, this.configuration().adaptiveJunctionOrdering(), this.configuration().optimizePredicates()))
+      return value;
     ValueHolder<T> valueHolder = ValueHolder.forValue(value);
-    Evaluable<T> evaluable = InternalUtils.toEvaluableIfNecessary(cond);
-    EvaluableIo<T, Evaluable<T>, Boolean> evaluableIo = new EvaluableIo<>(valueHolder, EvaluationContext.resolveEvaluationEntryType(evaluable), evaluable);
-    EvaluationContext<T> evaluationContext = new EvaluationContext<>();
     if (this.configuration().useEvaluator() && cond instanceof Evaluable) {
+      Evaluable<T> evaluable = (Evaluable<T>) (this.configuration().optimizePredicates() && cond instanceof PrintablePredicate ?
+          ((PrintablePredicate<? super T>) cond).optimized() :
+          cond);
+      EvaluableIo<T, Evaluable<T>, Boolean> evaluableIo = new EvaluableIo<>(valueHolder, EvaluationContext.resolveEvaluationEntryType(evaluable), evaluable);
       Evaluator evaluator = Evaluator.create();
-      ((Evaluable<T>) cond).accept(evaluableIo, evaluationContext, evaluator);
-      if (evaluableIo.output().isValueReturned() && Objects.equals(true, evaluableIo.output().value()))
-        return value;
-      List<EvaluationEntry> entries = evaluationContext.resultEntries();
+      EvaluationContext<T> evaluationContext = EvaluationContext.forCurrentThread(EvaluationSettings.from(this.configuration()));
+      List<EvaluationEntry> entries;
+      try {
+        evaluable.accept(evaluableIo, evaluationContext, evaluator);
+        if (evaluableIo.output().isValueReturned() && Objects.equals(true, evaluableIo.output().value()))
+          return value;
+        entries = evaluationContext.resultEntries();
+      } finally {
+        evaluationContext.release();
+      }
       throw exceptionComposerFunction.create(configuration()
           .reportComposer()
           .composeExplanation(
@@ -415,7 +495,7 @@ public interface Validator {
               entries
           ));
     } else {
-      if (!cond.test(valueHolder.returnedValue()))
+      if (!EvaluationPlan.planFor(cond, this.configuration().optimizePredicates()).test(valueHolder.returnedValue()))
         throw exceptionComposerFunction.create(configuration()
             .reportComposer()
             .composeExplanation(
@@ -426,18 +506,70 @@ public interface Validator {
     }
   }
 
+  /**
+   * Returns a validator used by the current thread.
+   * If the current thread has an override set by {@link Validator#reconfigureCurrentThread(Consumer)}, it will be returned.
+   * Otherwise, a process-wide validator, which is shared by all the threads, will be returned.
+   *
+   * @return A validator for the current thread.
+   */
   static Validator instance() {
-    return INSTANCE.get();
+    return ValidatorInstances.current();
   }
 
+  /**
+   * Re-configures the process-wide validator.
+   * A new validator is created from the current process-wide configuration modified by the `configurator` and published
+   * to all the threads at once.
+   * The update is atomic: when re-configurations race, each of them builds on the validator published by another, and
+   * none of them is lost.
+   * For this, the `configurator` may be called more than once, so it should be free of side effects.
+   *
+   * @param configurator A consumer that modifies a builder of the new configuration.
+   */
   static void reconfigure(Consumer<Configuration.Builder> configurator) {
-    Configuration.Builder b = instance().configuration().parentBuilder();
-    reconfigure(configurator, b);
+    Objects.requireNonNull(configurator);
+    ValidatorInstances.update(current -> {
+      Configuration.Builder b = current.configuration().parentBuilder();
+      configurator.accept(b);
+      return new Impl(b.build());
+    });
   }
 
   static void reconfigure(Consumer<Configuration.Builder> configurator, Configuration.Builder b) {
     Objects.requireNonNull(configurator).accept(b);
-    INSTANCE.set(new Impl(b.build()));
+    ValidatorInstances.publish(new Impl(b.build()));
+  }
+
+  /**
+   * Overrides the validator only for the current thread.
+   * A new validator is created from the configuration of the current thread modified by the `configurator`.
+   * The override stays until {@link Validator#resetCurrentThread()} is called on the thread, so it is recommended
+   * to use it in a `try`-`finally` block as a scope.
+   *
+   * [source, java]
+   * ----
+   * Validator.reconfigureCurrentThread(b -> b.useEvaluator(false));
+   * try {
+   *   // validations with the overridden configuration
+   * } finally {
+   *   Validator.resetCurrentThread();
+   * }
+   * ----
+   *
+   * @param configurator A consumer that modifies a builder of the new configuration.
+   */
+  static void reconfigureCurrentThread(Consumer<Configuration.Builder> configurator) {
+    Configuration.Builder b = instance().configuration().parentBuilder();
+    Objects.requireNonNull(configurator).accept(b);
+    ValidatorInstances.overrideForCurrentThread(new Impl(b.build()));
+  }
+
+  /**
+   * Removes the override for the current thread set by {@link Validator#reconfigureCurrentThread(Consumer)}, if any.
+   */
+  static void resetCurrentThread() {
+    ValidatorInstances.clearOverrideForCurrentThread();
   }
 
   static void resetToDefault() {
@@ -449,6 +581,54 @@ public interface Validator {
     return Configuration.Builder.fromProperties(properties).build();
   }
 
+  enum Utils {
+    ;
+
+    /**
+     * Tests a `value` with `cond` directly, without building an evaluation history.
+     * This is the first phase of the "evaluator only on failure" mode, where the {@link Evaluator}
+     * is used only to replay an evaluation whose result was not `true`.
+     *
+     * A stream cannot be consumed twice, so this method returns `false` for it and lets the caller
+     * evaluate it with the evaluator from the beginning.
+     * A runtime exception thrown by `cond` is also treated as a failure so that the replay can report it.
+     * An {@link Error} (e.g., {@link OutOfMemoryError}, {@link AssertionError}) is propagated as it is, instead of being
+     * masked by a replay, which would also repeat side effects of `cond`.
+     *
+     * @param value A value to be tested.
+     * @param cond  A predicate to test the `value`.
+     * @param <T>   The type of the `value`.
+     * @return `true` if, and only if, `cond` is satisfied by the `value`.
+     */
+    static <T> boolean passesWithoutEvaluator(T value, Predicate<? super T> cond) {
+      return passesWithoutEvaluator(value, cond, false, false);
+    }
+
+    /**
+     * Tests a given value with `cond` without the evaluator.
+     * If `adaptive` is `true`, an adaptive plan, which reorders children of shortcut junctions, is used.
+     * If `optimized` is `true`, the plan is compiled from the optimized form of `cond`.
+     *
+     * @param value     A value to be tested.
+     * @param cond      A predicate to test the `value`.
+     * @param adaptive  `true` to use an adaptive plan.
+     * @param optimized `true` to use the optimized form of `cond`.
+     * @param <T>       The type of the `value`.
+     * @return `true` if, and only if, `cond` is satisfied by the `value`.
+     * @see Configuration#adaptiveJunctionOrdering()
+     * @see Configuration#optimizePredicates()
+     */
+    static <T> boolean passesWithoutEvaluator(T value, Predicate<? super T> cond, boolean adaptive, boolean optimized) {
+      if (value instanceof BaseStream)
+        return false;
+      try {
+        return (adaptive ? EvaluationPlan.adaptivePlanFor(cond, optimized) : EvaluationPlan.planFor(cond, optimized)).test(value);
+      } catch (RuntimeException e) {
+        return false;
+      }
+    }
+  }
+
   interface ExceptionFactory<E extends Throwable> extends Function<Explanation, E> {
     default RuntimeException create(Explanation explanation) {
       return createException(this, explanation);
@@ -494,6 +674,162 @@ public interface Validator {
 
     boolean useEvaluator();
 
+    /**
+     * Returns `true` if the evaluator should be used only when a check fails.
+     * In this mode, a predicate is first tested directly by `Predicate#test` method and
+     * only when it is not satisfied, the evaluation is replayed by the {@link Evaluator} to compose a detailed report.
+     *
+     * Note that a predicate is evaluated twice on a failure in this mode, so it should be free of side effects.
+     * This is effective only when {@link Configuration#useEvaluator()} returns `true`.
+     * `false` by default.
+     *
+     * @return `true` - the evaluator is used only on failures / `false` - otherwise.
+     */
+    default boolean useEvaluatorOnlyOnFailure() {
+      return false;
+    }
+
+    /**
+     * Returns `true` if the entries recorded by the evaluator should compute their explanations lazily.
+     * In this mode, explanations of forms and values are rendered only when a report for a failure is composed,
+     * instead of every time a form is evaluated.
+     *
+     * This is effective only when {@link Configuration#useEvaluator()} returns `true`.
+     * `false` by default.
+     *
+     * @return `true` - explanations are rendered only for a report / `false` - otherwise.
+     * @see com.github.valid8j.pcond.core.EvaluationEntry.Impl
+     */
+    default boolean lazyEvaluationEntries() {
+      return false;
+    }
+
+    /**
+     * Returns the minimum number of elements of a stream, with which a stream predicate (`allMatch`, `anyMatch`, and
+     * `noneMatch`) is evaluated in parallel by the evaluator.
+     * `0` (default) disables the parallel evaluation.
+     *
+     * In the parallel mode, elements are tested concurrently on the common fork-join pool and the report contains
+     * only the trace of the element at the lowest index that determined the result.
+     * The predicate for the elements must be free of side effects and thread-safe.
+     *
+     * @return The minimum number of elements to evaluate a stream predicate in parallel.
+     */
+    default int parallelStreamPredicateThreshold() {
+      return 0;
+    }
+
+    /**
+     * Returns the number of elements whose evaluation traces are kept at each end of a stream evaluated by a stream
+     * predicate (`allMatch`, `anyMatch`, and `noneMatch`).
+     * That is, traces of the first N elements and the last N elements evaluated (including the one that determined
+     * the result) are kept and the ones in between are summarized as a single line in a report.
+     * `0` (default) means traces of all the evaluated elements are kept.
+     *
+     * @return The number of elements whose traces are kept at each end.
+     */
+    default int streamTraceBudget() {
+      return 0;
+    }
+
+    /**
+     * Returns `true` if a predicate should be optimized before it is evaluated.
+     * Nested junctions of the same kind are flattened, duplicated children, `alwaysTrue` in conjunctions, double negations,
+     * and identity transformations are removed, and adjacent lower and upper bound comparisons are fused into a range.
+     * A report for a failure shows the optimized form.
+     * This applies both to the evaluation by the evaluator and to the one without it.
+     * `false` by default.
+     *
+     * @return `true` - predicates are optimized / `false` - otherwise.
+     * @see com.github.valid8j.pcond.core.printable.PrintablePredicateFactory#optimize(Predicate)
+     */
+    default boolean optimizePredicates() {
+      return false;
+    }
+
+    /**
+     * Returns `true` if results of printable functions should be memoized within an evaluation by the evaluator.
+     * In this mode, a function already applied to the identical input object in the same evaluation is not applied again,
+     * but the previous result is reused.
+     * A function is regarded as already applied if it is the same object, or if it is equal to a built-in function
+     * (e.g., from {@link com.github.valid8j.pcond.forms.Functions}) that was applied. Functions created from lambdas are
+     * never regarded as equal to each other.
+     * For instance, `Functions.size()` applied to the same list in several branches of `allOf` runs only once.
+     *
+     * Functions must be free of side effects to use this mode.
+     * `false` by default.
+     *
+     * @return `true` - results of functions are memoized / `false` - otherwise.
+     */
+    default boolean memoizeFunctions() {
+      return false;
+    }
+
+    /**
+     * Returns `true` if children of "shortcut" junctions (`and`, `or`) should be reordered adaptively, when a value is
+     * tested without the evaluator in the "evaluator only on failure" mode (see {@link Configuration#useEvaluatorOnlyOnFailure()}).
+     * Time spent by each child and how often it decides the result are sampled for each predicate, shared among
+     * equal ones built from forms without lambdas, and cheap and selective children are tested first.
+     * A sampled call tests children just as other calls do, stopping at the one that decides the result.
+     * If a child throws an exception after reordering, the declared order is restored for the junction.
+     *
+     * Since a failure is replayed by the evaluator in the declared order, a report still lists the children in
+     * the order they are declared.
+     * Children must be free of side effects to use this mode.
+     * `false` by default.
+     *
+     * @return `true` - children of shortcut junctions are reordered adaptively / `false` - otherwise.
+     * @see EvaluationPlan#compile(Evaluable, boolean)
+     */
+    default boolean adaptiveJunctionOrdering() {
+      return false;
+    }
+
+    /**
+     * Returns a listener notified when the evaluator enters and leaves each form, if any.
+     * This can be used to find forms that dominate the time spent for checks.
+     * Empty by default, in which case no overhead is incurred.
+     *
+     * @return A listener to be notified of forms evaluated.
+     */
+    default Optional<EvaluationListener> evaluationListener() {
+      return Optional.empty();
+    }
+
+    /**
+     * Returns a duration in nanoseconds, checks taking longer than which are reported as "slow check" events to
+     * Java Flight Recorder, when it is available and recording.
+     * `0` (default) disables the events.
+     *
+     * @return A threshold of the duration of a slow check in nanoseconds.
+     */
+    default long slowCheckThresholdNanos() {
+      return 0;
+    }
+
+    /**
+     * Returns a registry where pass/fail counts and latencies of checks are recorded, if any.
+     * Empty by default, in which case nothing is recorded and no time is measured.
+     * If `collectMetrics` property is `true`, a new registry is created for a configuration built from properties.
+     *
+     * @return A metrics registry.
+     */
+    default Optional<ValidationMetrics> metrics() {
+      return Optional.empty();
+    }
+
+    /**
+     * Returns a policy that decides whether a check is performed or skipped.
+     * A skipped check returns its value without evaluating the predicate.
+     * {@link SamplingPolicy#ALWAYS} (default) performs all checks.
+     *
+     * @return A sampling policy.
+     * @see SamplingPolicy#fromProperties(Properties)
+     */
+    default SamplingPolicy samplingPolicy() {
+      return SamplingPolicy.ALWAYS;
+    }
+
     /**
      * Returns a message composer, which is responsible for composing an appropriate message for
      * a context.
@@ -560,7 +896,18 @@ public interface Validator {
 
     class Builder implements Cloneable {
       boolean useEvaluator;
+      boolean useEvaluatorOnlyOnFailure;
+      boolean lazyEvaluationEntries;
+      int     parallelStreamPredicateThreshold;
+      int     streamTraceBudget;
+      boolean optimizePredicates;
+      boolean memoizeFunctions;
+      boolean adaptiveJunctionOrdering;
       int     summarizedStringLength;
+      EvaluationListener evaluationListener;
+      long    slowCheckThresholdNanos;
+      ValidationMetrics metrics;
+      SamplingPolicy    samplingPolicy = SamplingPolicy.ALWAYS;
 
 
       MessageComposer messageComposer;
@@ -580,6 +927,61 @@ public interface Validator {
         return this;
       }
 
+      public Builder useEvaluatorOnlyOnFailure(boolean useEvaluatorOnlyOnFailure) {
+        this.useEvaluatorOnlyOnFailure = useEvaluatorOnlyOnFailure;
+        return this;
+      }
+
+      public Builder lazyEvaluationEntries(boolean lazyEvaluationEntries) {
+        this.lazyEvaluationEntries = lazyEvaluationEntries;
+        return this;
+      }
+
+      public Builder parallelStreamPredicateThreshold(int parallelStreamPredicateThreshold) {
+        this.parallelStreamPredicateThreshold = parallelStreamPredicateThreshold;
+        return this;
+      }
+
+      public Builder streamTraceBudget(int streamTraceBudget) {
+        this.streamTraceBudget = streamTraceBudget;
+        return this;
+      }
+
+      public Builder memoizeFunctions(boolean memoizeFunctions) {
+        this.memoizeFunctions = memoizeFunctions;
+        return this;
+      }
+
+      public Builder optimizePredicates(boolean optimizePredicates) {
+        this.optimizePredicates = optimizePredicates;
+        return this;
+      }
+
+      public Builder adaptiveJunctionOrdering(boolean adaptiveJunctionOrdering) {
+        this.adaptiveJunctionOrdering = adaptiveJunctionOrdering;
+        return this;
+      }
+
+      public Builder evaluationListener(EvaluationListener evaluationListener) {
+        this.evaluationListener = evaluationListener;
+        return this;
+      }
+
+      public Builder slowCheckThresholdNanos(long slowCheckThresholdNanos) {
+        this.slowCheckThresholdNanos = slowCheckThresholdNanos;
+        return this;
+      }
+
+      public Builder metrics(ValidationMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+      }
+
+      public Builder samplingPolicy(SamplingPolicy samplingPolicy) {
+        this.samplingPolicy = Objects.requireNonNull(samplingPolicy);
+        return this;
+      }
+
       public Builder summarizedStringLength(int summarizedStringLength) {
         this.summarizedStringLength = summarizedStringLength;
         return this;
@@ -628,26 +1030,83 @@ public interface Validator {
       public Configuration build() {
         if (!isClassPresent("org.junit.ComparisonFailure"))
           this.useOpentest4J();
+        // Copied, so that a change made to this builder afterwards doesn't affect the built configuration.
+        Builder snapshot = this.clone();
         return new Configuration() {
           private final Debugging debugging = new Debugging() {
           };
 
           private final ExceptionComposer exceptionComposer = new ExceptionComposer.Impl(
-              exceptionComposerForRequire,
-              exceptionComposerForEnsure,
-              defaultExceptionComposerForValidate,
-              exceptionComposerForAssert,
-              exceptionComposerForTestFailures
+              snapshot.exceptionComposerForRequire,
+              snapshot.exceptionComposerForEnsure,
+              snapshot.defaultExceptionComposerForValidate,
+              snapshot.exceptionComposerForAssert,
+              snapshot.exceptionComposerForTestFailures
           );
 
           @Override
           public int summarizedStringLength() {
-            return Builder.this.summarizedStringLength;
+            return snapshot.summarizedStringLength;
           }
 
           @Override
           public boolean useEvaluator() {
-            return Builder.this.useEvaluator;
+            return snapshot.useEvaluator;
+          }
+
+          @Override
+          public boolean useEvaluatorOnlyOnFailure() {
+            return snapshot.useEvaluatorOnlyOnFailure;
+          }
+
+          @Override
+          public boolean lazyEvaluationEntries() {
+            return snapshot.lazyEvaluationEntries;
+          }
+
+          @Override
+          public int parallelStreamPredicateThreshold() {
+            return snapshot.parallelStreamPredicateThreshold;
+          }
+
+          @Override
+          public int streamTraceBudget() {
+            return snapshot.streamTraceBudget;
+          }
+
+          @Override
+          public boolean optimizePredicates() {
+            return snapshot.optimizePredicates;
+          }
+
+          @Override
+          public boolean memoizeFunctions() {
+            return snapshot.memoizeFunctions;
+          }
+
+          @Override
+          public boolean adaptiveJunctionOrdering() {
+            return snapshot.adaptiveJunctionOrdering;
+          }
+
+          @Override
+          public Optional<EvaluationListener> evaluationListener() {
+            return Optional.ofNullable(snapshot.evaluationListener);
+          }
+
+          @Override
+          public long slowCheckThresholdNanos() {
+            return snapshot.slowCheckThresholdNanos;
+          }
+
+          @Override
+          public Optional<ValidationMetrics> metrics() {
+            return Optional.ofNullable(snapshot.metrics);
+          }
+
+          @Override
+          public SamplingPolicy samplingPolicy() {
+            return snapshot.samplingPolicy;
           }
 
           /**
@@ -670,17 +1129,17 @@ public interface Validator {
 
           @Override
           public MessageComposer messageComposer() {
-            return Builder.this.messageComposer;
+            return snapshot.messageComposer;
           }
 
           @Override
           public ReportComposer reportComposer() {
-            return Builder.this.reportComposer;
+            return snapshot.reportComposer;
           }
 
           @Override
           public Builder parentBuilder() {
-            return Builder.this.clone();
+            return snapshot.clone();
           }
         };
       }
@@ -706,7 +1165,18 @@ public interface Validator {
       static Builder fromProperties(Properties properties) {
         return new Builder()
             .useEvaluator(Boolean.parseBoolean(properties.getProperty("useEvaluator", "true")))
+            .useEvaluatorOnlyOnFailure(Boolean.parseBoolean(properties.getProperty("useEvaluatorOnlyOnFailure", "false")))
+            .lazyEvaluationEntries(Boolean.parseBoolean(properties.getProperty("lazyEvaluationEntries", "false")))
+            .parallelStreamPredicateThreshold(Integer.parseInt(properties.getProperty("parallelStreamPredicateThreshold", "0")))
+            .streamTraceBudget(Integer.parseInt(properties.getProperty("streamTraceBudget", "0")))
+            .optimizePredicates(Boolean.parseBoolean(properties.getProperty("optimizePredicates", "false")))
+            .memoizeFunctions(Boolean.parseBoolean(properties.getProperty("memoizeFunctions", "false")))
+            .adaptiveJunctionOrdering(Boolean.parseBoolean(properties.getProperty("adaptiveJunctionOrdering", "false")))
             .summarizedStringLength(Integer.parseInt(properties.getProperty("summarizedStringLength", "40")))
+            .slowCheckThresholdNanos(Long.parseLong(properties.getProperty("slowCheckThresholdNanos", "0")))
+            .metrics(Boolean.parseBoolean(properties.getProperty("collectMetrics", "false")) ? new ValidationMetrics() : null)
+            .samplingPolicy(SamplingPolicy.fromProperties(properties))
+            .evaluationListener(Optional.ofNullable(properties.getProperty("evaluationListener")).map(v -> instantiate(EvaluationListener.class, v)).orElse(null))
             .exceptionComposerForRequire(instantiate(ExceptionComposer.ForRequire.class, properties.getProperty("exceptionComposerForRequire", "com.github.valid8j.pcond.validator.ExceptionComposer$ForRequire$Default")))
             .exceptionComposerForEnsure(instantiate(ExceptionComposer.ForEnsure.class, properties.getProperty("exceptionComposerForEnsure", "com.github.valid8j.pcond.validator.ExceptionComposer$ForEnsure$Default")))
             .defaultExceptionComposerForValidate(instantiate(ExceptionComposer.ForValidate.class, properties.getProperty("defaultExceptionComposerForValidate", "com.github.valid8j.pcond.validator.ExceptionComposer$ForValidate$Default")))
@@ -0,0 +1,90 @@
+package com.github.valid8j.pcond.validator;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static com.github.valid8j.pcond.validator.Validator.Configuration.Utils.loadPcondProperties;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds {@link Validator} instances returned by {@link Validator#instance()}.
+ *
+ * A process-wide instance is created from `pcond.properties` and system properties only once, when it is
+ * requested for the first time, and then shared by all the threads.
+ * Since a validator and its configuration are immutable, a new instance is published atomically to replace the
+ * current one on a re-configuration.
+ *
+ * An override for a specific thread is supported, but the thread-local storage is not consulted until the feature
+ * is used for the first time in the process.
+ * Thus, a freshly started thread doesn't pay for the initialization of a thread-local value.
+ */
+final class ValidatorInstances {
+  private static final AtomicReference<Validator> GLOBAL             = new AtomicReference<>();
+  private static final ThreadLocal<Validator>     THREAD_OVERRIDE    = new ThreadLocal<>();
+  private static volatile boolean                 threadOverrideUsed = false;
+
+  private ValidatorInstances() {
+  }
+
+  static Validator current() {
+    if (threadOverrideUsed) {
+      Validator ret = THREAD_OVERRIDE.get();
+      if (ret != null)
+        return ret;
+    }
+    return global();
+  }
+
+  static Validator global() {
+    Validator ret = GLOBAL.get();
+    if (ret != null)
+      return ret;
+    GLOBAL.compareAndSet(null, Validator.create(loadPcondProperties()));
+    return GLOBAL.get();
+  }
+
+  static void publish(Validator validator) {
+    GLOBAL.set(requireNonNull(validator));
+  }
+
+  /**
+   * Atomically replaces the process-wide validator with one created from the current one by `updater`.
+   * The `updater` may be called more than once when updates race.
+   *
+   * @param updater A function that creates a new validator from the current one.
+   */
+  static void update(UnaryOperator<Validator> updater) {
+    global();
+    GLOBAL.updateAndGet(current -> requireNonNull(updater.apply(current)));
+  }
+
+  static void overrideForCurrentThread(Validator validator) {
+    threadOverrideUsed = true;
+    THREAD_OVERRIDE.set(requireNonNull(validator));
+  }
+
+  static void clearOverrideForCurrentThread() {
+    if (threadOverrideUsed)
+      THREAD_OVERRIDE.remove();
+  }
+
+  /**
+   * A thread-local view of the validators for the deprecated {@link Validator#INSTANCE} field.
+   */
+  static final class LegacyThreadLocal extends ThreadLocal<Validator> {
+    @Override
+    public Validator get() {
+      return current();
+    }
+
+    @Override
+    public void set(Validator value) {
+      overrideForCurrentThread(value);
+    }
+
+    @Override
+    public void remove() {
+      clearOverrideForCurrentThread();
+    }
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ * A package to store exception classes thrown when a condition passed to assertion/validation method of `pcond` is not satisfied.
+ */
+package com.github.valid8j.pcond.validator.exceptions;
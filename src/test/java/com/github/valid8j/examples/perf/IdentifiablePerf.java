@@ -0,0 +1,154 @@
+package com.github.valid8j.examples.perf;
+
+import com.github.valid8j.pcond.forms.Predicates;
+import org.junit.*;
+import org.junit.rules.Stopwatch;
+import org.junit.runner.Description;
+import org.junit.runners.MethodSorters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures lookups of maps keyed by printable predicates, whose arguments have various sizes.
+ * The hash code of a predicate whose arguments are all immutable values (here, strings) is computed on the first lookup
+ * and cached, so the time doesn't depend on the size of the arguments.
+ * The hash code of a predicate with a mutable argument (here, a list) is computed on every lookup, since the argument
+ * may be modified, so the time stays proportional to the size of the argument.
+ *
+ * 1,000,000 times
+ * <pre>
+ * lookup_argumentSize_0001                   26[msec] (succeeded)
+ * lookup_argumentSize_0010                   42[msec] (succeeded)
+ * lookup_argumentSize_0100                   44[msec] (succeeded)
+ * lookup_argumentSize_1000                   42[msec] (succeeded)
+ * lookup_mutableArgumentSize_0001           112[msec] (succeeded)
+ * lookup_mutableArgumentSize_0010           155[msec] (succeeded)
+ * lookup_mutableArgumentSize_0100           868[msec] (succeeded)
+ * lookup_mutableArgumentSize_1000          5368[msec] (succeeded)
+ * </pre>
+ * Before the hash code was cached
+ * <pre>
+ * lookup_argumentSize_0001                   70[msec] (succeeded)
+ * lookup_argumentSize_0010                   91[msec] (succeeded)
+ * lookup_argumentSize_0100                   64[msec] (succeeded)
+ * lookup_argumentSize_1000                   46[msec] (succeeded)
+ * lookup_mutableArgumentSize_0001            58[msec] (succeeded)
+ * lookup_mutableArgumentSize_0010           232[msec] (succeeded)
+ * lookup_mutableArgumentSize_0100           770[msec] (succeeded)
+ * lookup_mutableArgumentSize_1000          5450[msec] (succeeded)
+ * </pre>
+ * Since a string caches its own hash code, the gain for string arguments is small and doesn't depend on their length.
+ */
+@SuppressWarnings("NewClassNamingConvention")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IdentifiablePerf {
+  @Rule
+  public Stopwatch stopwatch = new Stopwatch() {
+    @Override
+    protected void succeeded(long nanos, Description description) {
+      formatResult(nanos, description, "succeeded");
+    }
+
+    @Override
+    protected void failed(long nanos, Throwable e, Description description) {
+      formatResult(nanos, description, "failed");
+    }
+
+    private void formatResult(long nanos, Description description, String label) {
+      System.out.printf("%-40s %10s (%s)%n", description.getMethodName(), formatNanos(nanos), label);
+    }
+
+    private String formatNanos(long nanos) {
+      return String.format("%s[msec]", nanos / 1_000_000);
+    }
+  };
+
+  @BeforeClass
+  public static void warmUp() {
+    lookup(1, 100_000);
+    lookup(1_000, 100_000);
+    lookupByMutableArguments(1, 100_000);
+    lookupByMutableArguments(1_000, 100_000);
+  }
+
+  @Test
+  public void lookup_argumentSize_0001() {
+    lookup(1, numLoop());
+  }
+
+  @Test
+  public void lookup_argumentSize_0010() {
+    lookup(10, numLoop());
+  }
+
+  @Test
+  public void lookup_argumentSize_0100() {
+    lookup(100, numLoop());
+  }
+
+  @Test
+  public void lookup_argumentSize_1000() {
+    lookup(1_000, numLoop());
+  }
+
+  @Test
+  public void lookup_mutableArgumentSize_0001() {
+    lookupByMutableArguments(1, numLoop());
+  }
+
+  @Test
+  public void lookup_mutableArgumentSize_0010() {
+    lookupByMutableArguments(10, numLoop());
+  }
+
+  @Test
+  public void lookup_mutableArgumentSize_0100() {
+    lookupByMutableArguments(100, numLoop());
+  }
+
+  @Test
+  public void lookup_mutableArgumentSize_1000() {
+    lookupByMutableArguments(1_000, numLoop());
+  }
+
+  private static int numLoop() {
+    return 1_000_000;
+  }
+
+  private static void lookup(int argumentSize, int numLoop) {
+    lookup(i -> Predicates.isEqualTo(stringArgument(i, argumentSize)), numLoop);
+  }
+
+  private static void lookupByMutableArguments(int argumentSize, int numLoop) {
+    lookup(i -> Predicates.isEqualTo(listArgument(i, argumentSize)), numLoop);
+  }
+
+  private static void lookup(IntFunction<Predicate<Object>> keyFactory, int numLoop) {
+    List<Predicate<Object>> keys = new ArrayList<>();
+    Map<Predicate<Object>, Integer> map = new HashMap<>();
+    for (int i = 0; i < 16; i++) {
+      Predicate<Object> key = keyFactory.apply(i);
+      keys.add(key);
+      map.put(key, i);
+    }
+    long sum = 0;
+    for (int i = 0; i < numLoop; i++)
+      sum += map.get(keys.get(i & 15));
+    Assert.assertTrue(sum > 0);
+  }
+
+  private static String stringArgument(int seed, int size) {
+    return IntStream.range(0, size).mapToObj(i -> Character.toString((char) ('a' + (i + seed) % 26))).collect(Collectors.joining());
+  }
+
+  private static List<Integer> listArgument(int seed, int size) {
+    return IntStream.range(0, size).map(i -> i + seed).boxed().collect(Collectors.toList());
+  }
+}
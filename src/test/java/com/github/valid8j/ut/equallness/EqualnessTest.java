@@ -130,7 +130,7 @@ public class EqualnessTest extends TestBase {
         // - cast
         define(args -> Functions.cast(String.class))
             .nonEqualObjectSupplier(() -> Functions.cast(Object.class))
-            .cached(false)
+            .cached(true)
             .$(),
         // - collectionToList
         define(args -> Functions.collectionToList())
@@ -143,7 +143,7 @@ public class EqualnessTest extends TestBase {
             .$(),
         define(args -> Functions.elementAt(1))
             .nonEqualObjectSupplier(() -> Functions.elementAt(2))
-            .cached(false)
+            .cached(true)
             .$(),
         // - custom
         define(args -> Printables.function(new String("custom"), Function.identity())) // Intentionally create a new String
@@ -181,7 +181,7 @@ public class EqualnessTest extends TestBase {
         // - isEqualTo
         define(args -> Predicates.isEqualTo(args[0]), "hello")
             .nonEqualObjectFactory(args -> Predicates.isEqualTo(args[0]), "world")
-            .cached(false)
+            .cached(true)
             .$(),
         // - isSameReferenceAs
         define(args -> Predicates.isSameReferenceAs(args[0]), new Object())
@@ -196,42 +196,42 @@ public class EqualnessTest extends TestBase {
         // - greaterThan
         define(args -> Predicates.greaterThan((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.greaterThan((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - greaterThanOrEqualTo
         define(args -> Predicates.greaterThanOrEqualTo((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.greaterThanOrEqualTo((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - lessThan
         define(args -> Predicates.lessThan((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.lessThan((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - lessThanOrEqualTo
         define(args -> Predicates.lessThanOrEqualTo((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.lessThanOrEqualTo((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - matchesRegex
         define(args -> Predicates.matchesRegex((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.matchesRegex((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - containsString
         define(args -> Predicates.containsString((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.containsString((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - startsWith
         define(args -> Predicates.startsWith((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.startsWith((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - endsWith
         define(args -> Predicates.endsWith((String) args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.endsWith((String) args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - isEmptyString
         define(args -> Predicates.isEmptyString())
@@ -242,7 +242,7 @@ public class EqualnessTest extends TestBase {
         // - contains
         define(args -> Predicates.contains(args[0]), "HELLO")
             .nonEqualObjectFactory(args -> Predicates.contains(args[0]), "hello")
-            .cached(false)
+            .cached(true)
             .$(),
         // - isEmptyArray
         define(args -> Predicates.isEmptyArray())
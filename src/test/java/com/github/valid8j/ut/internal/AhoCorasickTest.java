@@ -0,0 +1,51 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.pcond.internals.AhoCorasick;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AhoCorasickTest extends TestBase {
+  @Test
+  public void givenOverlappingTokens_whenAllContained_thenNothingMissing() {
+    AhoCorasick automaton = new AhoCorasick("he", "she", "his", "hers");
+    assertThat(automaton.firstMissingToken("ushers his"), is(-1));
+  }
+
+  @Test
+  public void givenTokens_whenOneMissing_thenFirstMissingReported() {
+    AhoCorasick automaton = new AhoCorasick("alpha", "beta", "gamma", "delta");
+    assertThat(automaton.firstMissingToken("gamma alpha"), is(1));
+  }
+
+  @Test
+  public void givenNonAsciiAndDuplicatedTokens_whenScanned_thenFound() {
+    AhoCorasick automaton = new AhoCorasick("日本", "語", "日本");
+    assertThat(automaton.firstMissingToken("日本語"), is(-1));
+    assertThat(automaton.firstMissingToken("日本"), is(1));
+  }
+
+  @Test
+  public void givenTokensInOrder_whenScanned_thenOrderAndOverlapRespected() {
+    AhoCorasick automaton = new AhoCorasick("ab", "bc", "ab");
+    assertThat(automaton.firstMissingTokenInOrder("abc"), is(1));
+    assertThat(automaton.firstMissingTokenInOrder("ab bc ab"), is(-1));
+    assertThat(automaton.firstMissingTokenInOrder("ab bc"), is(2));
+  }
+
+  @Test
+  public void givenEmptyToken_thenAlwaysFound() {
+    assertThat(new AhoCorasick("", "x").firstMissingToken(""), is(1));
+    assertThat(new AhoCorasick("x", "").firstMissingTokenInOrder("x"), is(-1));
+  }
+
+  @Test
+  public void givenSameTokens_whenPredicatesCreated_thenEqualAndPrintable() {
+    assertThat(Predicates.containsAllSubstrings("a", "b"), is(Predicates.containsAllSubstrings("a", "b")));
+    assertThat(Predicates.containsAllSubstrings("a", "b").equals(Predicates.containsAllSubstringsInOrder("a", "b")), is(false));
+    assertThat(Predicates.containsAllSubstringsInOrder("a", "b").toString(), is("containsAllInOrder[\"a\",\"b\"]"));
+  }
+}
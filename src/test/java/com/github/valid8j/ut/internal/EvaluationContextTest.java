@@ -0,0 +1,103 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.core.*;
+import com.github.valid8j.pcond.forms.Functions;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.github.valid8j.pcond.forms.Predicates.*;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class EvaluationContextTest extends TestBase {
+  @Test
+  public void givenTransformation_whenEvaluated_thenLevelsAreResolvedRelativeToRoot() {
+    Predicate<String> p = allOf(isNotNull(), transform(Functions.length()).check(gt(10)));
+
+    List<EvaluationEntry> entries = evaluate(EvaluationContext.forCurrentThread(), p, "hello");
+
+    assertThat(entries.stream().map(e -> e.formName() + "@" + e.level()).collect(toList()).toString(),
+        is("[allOf@0, isNotNull@1, transformAndCheck@1, transform@1, transform@2, length@2, check@1, >[10]@2]"));
+  }
+
+  @Test
+  public void givenDeepTransformations_whenEvaluated_thenAllEntriesAreRecorded() {
+    int depth = 50;
+    Predicate<String> p = isEqualTo("hello");
+    for (int i = 0; i < depth; i++)
+      p = Predicates.<String, String>transform(Functions.identity()).check(p);
+
+    List<EvaluationEntry> entries = evaluate(EvaluationContext.forCurrentThread(), p, "hello");
+
+    assertThat(entries.size(), is(depth * 5 + 1));
+    assertThat(entries.get(entries.size() - 1).level(), is(depth + 1));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void givenEntriesReturnedFromChild_whenParentReturnsEntries_thenLevelsOfFormerListAreNotChanged() {
+    EvaluationContext<String> root = EvaluationContext.forCurrentThread();
+    try {
+      EvaluationContext<String> child = new EvaluationContext<>(root);
+      Evaluable<String> evaluable = (Evaluable<String>) allOf(isNotNull(), isEqualTo("hello"));
+      evaluable.accept(new EvaluableIo<>(ValueHolder.forValue("hello"), EvaluationContext.resolveEvaluationEntryType(evaluable), evaluable), child, Evaluator.create());
+      List<EvaluationEntry> childEntries = child.resultEntries();
+      root.importEntries(child, 3);
+      List<EvaluationEntry> rootEntries = root.resultEntries();
+
+      assertThat(levelsOf(childEntries), is("[allOf@0, isNotNull@1, isEqualTo[hello]@1]"));
+      assertThat(levelsOf(rootEntries), is("[allOf@3, isNotNull@4, isEqualTo[hello]@4]"));
+    } finally {
+      root.release();
+    }
+  }
+
+  @Test
+  public void givenContextForCurrentThreadInUse_whenRequestedAgain_thenIndependentContextReturned() {
+    EvaluationContext<String> outer = EvaluationContext.forCurrentThread();
+    try {
+      List<EvaluationEntry> inner = evaluate(EvaluationContext.forCurrentThread(), isEqualTo("world"), "world");
+      List<EvaluationEntry> outerEntries = evaluate(outer, allOf(isNotNull(), isEqualTo("hello")), "hello");
+
+      assertThat(inner.size(), is(1));
+      assertThat(outerEntries.size(), is(3));
+    } finally {
+      outer.release();
+    }
+  }
+
+  @Test
+  public void givenSettings_whenChildContextCreated_thenSameSettingsInherited() {
+    EvaluationContext<String> root = EvaluationContext.forCurrentThread(EvaluationSettings.DEFAULT);
+    try {
+      EvaluationContext<String> child = new EvaluationContext<>(new EvaluationContext<>(root));
+
+      assertThat(child.settings(), sameInstance(EvaluationSettings.DEFAULT));
+      assertThat(child.isLazyEntriesRequested(), is(false));
+    } finally {
+      root.release();
+    }
+  }
+
+  private static String levelsOf(List<EvaluationEntry> entries) {
+    return entries.stream().map(e -> e.formName() + "@" + e.level()).collect(toList()).toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<EvaluationEntry> evaluate(EvaluationContext<T> context, Predicate<? super T> p, T value) {
+    try {
+      Evaluable<T> evaluable = (Evaluable<T>) p;
+      EvaluableIo<T, Evaluable<T>, Boolean> io = new EvaluableIo<>(ValueHolder.forValue(value), EvaluationContext.resolveEvaluationEntryType(evaluable), evaluable);
+      evaluable.accept(io, context, Evaluator.create());
+      return context.resultEntries();
+    } finally {
+      context.release();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.core.EvaluationPlan;
+import com.github.valid8j.pcond.core.printable.PrintablePredicate;
+import com.github.valid8j.pcond.forms.Functions;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.pcond.forms.Printables;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.github.valid8j.pcond.forms.Predicates.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class EvaluationPlanTest extends TestBase {
+  @Test
+  public void givenJunctionsAndTransformation_whenTest_thenSameAsPredicate() {
+    Predicate<String> p = and(
+        isNotNull(),
+        not(isEmptyString()),
+        or(startsWith("h"), transform(Functions.length()).check(gt(10))));
+    EvaluationPlan<String> plan = ((PrintablePredicate<String>) p).evaluationPlan();
+
+    for (String each : asList("hello", "Hello", "Hello, world!", ""))
+      assertThat(each, plan.test(each), is(p.test(each)));
+  }
+
+  @Test
+  public void givenComposedFunction_whenTest_thenFunctionsAreAppliedInOrder() {
+    Function<String, Integer> f = Functions.<String>stringify().andThen(Functions.length());
+    Predicate<String> p = transform(f).check(allOf(ge(3), lt(6)));
+    EvaluationPlan<String> plan = ((PrintablePredicate<String>) p).evaluationPlan();
+
+    assertThat(plan.test("abc"), is(true));
+    assertThat(plan.test("abcdef"), is(false));
+  }
+
+  @Test
+  public void givenStreamPredicates_whenTest_thenSameAsPredicate() {
+    assertThat(planOf(Predicates.<String>allMatch(isNotNull())).test(Stream.of("a", "b")), is(true));
+    assertThat(planOf(Predicates.<String>allMatch(isNotNull())).test(Stream.of("a", null)), is(false));
+    assertThat(planOf(Predicates.<String>anyMatch(isEqualTo("b"))).test(Stream.of("a", "b")), is(true));
+    assertThat(planOf(Predicates.<String>anyMatch(isEqualTo("c"))).test(Stream.of("a", "b")), is(false));
+    assertThat(planOf(Predicates.<String>noneMatch(isEqualTo("c"))).test(Stream.of("a", "b")), is(true));
+    assertThat(planOf(Predicates.<String>noneMatch(isEqualTo("b"))).test(Stream.of("a", "b")), is(false));
+  }
+
+  @Test
+  public void givenPrintablePredicate_whenPlanRequestedTwice_thenCachedPlanReturned() {
+    PrintablePredicate<String> p = (PrintablePredicate<String>) Predicates.<String>and(isNotNull(), not(isEmptyString()));
+
+    assertThat(p.evaluationPlan(), sameInstance(p.evaluationPlan()));
+    assertThat(p.evaluationPlan().size(), is(4));
+  }
+
+  @Test(expected = IntentionalException.class)
+  public void givenThrowingPredicate_whenTest_thenExceptionPassedThrough() {
+    planOf(Predicates.<String>and(isNotNull(), v -> {
+      throw new IntentionalException();
+    })).test("hello");
+  }
+
+  @Test
+  public void givenAdaptivePlan_whenCheapSelectiveChildFollowsExpensiveOne_thenExpensiveOneIsSkippedMostly() {
+    AtomicInteger numCalls = new AtomicInteger(0);
+    Predicate<String> p = and(
+        Printables.predicate("expensive", v -> {
+          numCalls.incrementAndGet();
+          return v.hashCode() != 0 || v.isEmpty();
+        }),
+        isEqualTo("world"));
+    Predicate<String> plan = EvaluationPlan.adaptivePlanFor(p);
+
+    for (int i = 0; i < 10_000; i++)
+      assertThat(plan.test("hello"), is(false));
+    assertThat(numCalls.get(), lessThan(5_000));
+    assertThat(plan.test("world"), is(true));
+  }
+
+  @Test
+  public void givenPrintablePredicate_whenAdaptivePlanRequestedTwice_thenCachedPlanReturned() {
+    PrintablePredicate<String> p = (PrintablePredicate<String>) Predicates.<String>and(isNotNull(), not(isEmptyString()));
+
+    assertThat(p.adaptiveEvaluationPlan(), sameInstance(p.adaptiveEvaluationPlan()));
+  }
+
+  @Test
+  public void givenAdaptivePlan_whenFirstChildAlwaysDecides_thenFollowingChildIsNeverTestedEvenBySampling() {
+    AtomicInteger numCalls = new AtomicInteger(0);
+    Predicate<String> plan = EvaluationPlan.adaptivePlanFor(and(
+        isEqualTo("world"),
+        Printables.predicate("counting", v -> numCalls.incrementAndGet() > 0)));
+
+    for (int i = 0; i < 10_000; i++)
+      assertThat(plan.test("hello"), is(false));
+    assertThat(numCalls.get(), is(0));
+  }
+
+  @Test
+  public void givenAdaptivePlan_whenGuardedChildIsMovedAheadOfGuard_thenDeclaredOrderIsRestored() {
+    Predicate<String> p = and(isNotNull(), Printables.predicate("isNonEmpty", v -> v.length() > 0));
+    Predicate<String> plan = EvaluationPlan.adaptivePlanFor(p);
+
+    for (int i = 0; i < 10_000; i++) {
+      String value = i % 100 == 0 ? null : "";
+      assertThat(plan.test(value), is(false));
+    }
+    assertThat(plan.test(null), is(false));
+    assertThat(plan.test("hello"), is(true));
+    assertThat(plan.toString(), containsString("order:[0, 1]"));
+  }
+
+  @Test
+  public void givenEqualPredicatesBuiltOnEveryCall_whenAdaptivePlanRequested_thenPlanIsShared() {
+    Predicate<String> last = null;
+    for (int i = 0; i < 10_000; i++) {
+      last = EvaluationPlan.adaptivePlanFor(and(isNotNull(), isEqualTo("adaptive-plan-sharing")));
+      assertThat(last.test("hello"), is(false));
+    }
+
+    assertThat(EvaluationPlan.adaptivePlanFor(and(isNotNull(), isEqualTo("adaptive-plan-sharing"))), sameInstance(last));
+    assertThat(last.toString(), containsString("order:[1, 0]"));
+  }
+
+  private static <T> Predicate<T> planOf(Predicate<T> predicate) {
+    return EvaluationPlan.planFor(predicate);
+  }
+}
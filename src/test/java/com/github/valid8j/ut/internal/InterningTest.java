@@ -0,0 +1,59 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.forms.Functions;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class InterningTest extends TestBase {
+  @Test
+  public void givenSameImmutableArgument_whenPredicateCreatedTwice_thenSameInstanceReturned() {
+    assertThat(Predicates.isEqualTo("hello"), sameInstance(Predicates.isEqualTo("hello")));
+    assertThat(Predicates.greaterThan(1), sameInstance(Predicates.greaterThan(1)));
+  }
+
+  @Test
+  public void givenDifferentArguments_whenPredicateCreated_thenDifferentInstancesReturned() {
+    assertThat(Predicates.isEqualTo(1), not(sameInstance(Predicates.isEqualTo(1L))));
+    assertThat(Predicates.isEqualTo("hello"), not(sameInstance(Predicates.containsString("hello"))));
+  }
+
+  @Test
+  public void givenMutableArgument_whenPredicateCreatedTwice_thenNotInterned() {
+    assertThat(Predicates.isEqualTo(new ArrayList<>()), not(sameInstance(Predicates.isEqualTo(new ArrayList<>()))));
+  }
+
+  @Test
+  public void givenMutableArgument_whenMutatedAfterPredicateCreated_thenStillEqualToPredicateCreatedLater() {
+    List<Object> list = new ArrayList<>();
+    Predicate<Object> before = Predicates.isEqualTo(list);
+    int hashCodeBefore = before.hashCode();
+    list.add(1);
+    Predicate<Object> after = Predicates.isEqualTo(list);
+    assertThat(before.hashCode(), not(hashCodeBefore));
+    assertThat(before.hashCode(), is(after.hashCode()));
+    assertThat(before.equals(after), is(true));
+    assertThat(after.equals(before), is(true));
+  }
+
+  @SuppressWarnings("StringOperationCanBeSimplified")
+  @Test
+  public void givenEqualButDistinctStrings_whenIsSameReferenceAs_thenNotInterned() {
+    String s1 = new String("hello");
+    String s2 = new String("hello");
+    assertThat(Predicates.isSameReferenceAs(s1).test(s2), is(false));
+    assertThat(Predicates.isSameReferenceAs(s2).test(s2), is(true));
+  }
+
+  @Test
+  public void givenSameIndex_whenElementAtCreatedTwice_thenSameInstanceReturned() {
+    assertThat(Functions.elementAt(1), sameInstance(Functions.elementAt(1)));
+  }
+}
@@ -0,0 +1,84 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.core.printable.MembershipPredicate;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MembershipPredicateTest extends TestBase {
+  @Test
+  public void givenStrings_whenIsIn_thenOnlyElementsAccepted() {
+    Predicate<String> p = Predicates.isIn(asList("GET", "PUT", "POST", "DELETE"));
+    assertThat(p.test("POST"), is(true));
+    assertThat(p.test(new String("DELETE")), is(true));
+    assertThat(p.test("PATCH"), is(false));
+    assertThat(p.test(null), is(false));
+  }
+
+  @Test
+  public void givenCollidingStrings_whenIsIn_thenOnlyElementsAccepted() {
+    // "Aa" and "BB" have the same hash code.
+    Predicate<String> p = Predicates.isIn(asList("Aa", "BB"));
+    assertThat(p.test("Aa"), is(true));
+    assertThat(p.test("BB"), is(true));
+    assertThat(p.test("AaAa"), is(false));
+  }
+
+  @Test
+  public void givenEnums_whenIsIn_thenOnlyElementsAccepted() {
+    Predicate<TimeUnit> p = Predicates.isIn(asList(TimeUnit.SECONDS, TimeUnit.MINUTES));
+    assertThat(p.test(TimeUnit.SECONDS), is(true));
+    assertThat(p.test(TimeUnit.HOURS), is(false));
+  }
+
+  @Test
+  public void givenManyIntegers_whenIsIn_thenOnlyElementsAccepted() {
+    List<Integer> elements = IntStream.range(0, 1000).map(i -> i * 7).boxed().collect(Collectors.toList());
+    Predicate<Integer> p = Predicates.isIn(elements);
+    assertThat(p.test(693), is(true));
+    assertThat(p.test(694), is(false));
+  }
+
+  @Test
+  public void givenIntegers_whenTestPrimitive_thenSameAsBoxed() {
+    MembershipPredicate<Integer> p = MembershipPredicate.createIntMembership(new int[] { -1, 0, 42, Integer.MIN_VALUE }, false);
+    for (int v : new int[] { -1, 0, 1, 42, 43, Integer.MIN_VALUE, Integer.MAX_VALUE })
+      assertThat(p.test(v), is(p.test(Integer.valueOf(v))));
+    assertThat(p.test(42), is(true));
+    assertThat(p.test(43), is(false));
+  }
+
+  @Test
+  public void givenMixedTypes_whenIsIn_thenComparedByEquals() {
+    Predicate<Object> p = Predicates.isIn(asList(1, "1", null));
+    assertThat(p.test(1), is(true));
+    assertThat(p.test("1"), is(true));
+    assertThat(p.test(null), is(true));
+    assertThat(p.test(1L), is(false));
+  }
+
+  @Test
+  public void givenElements_whenIsNotIn_thenNegated() {
+    Predicate<String> p = Predicates.isNotIn(asList("a", "b"));
+    assertThat(p.test("a"), is(false));
+    assertThat(p.test("c"), is(true));
+    assertThat(p.toString(), is("isNotIn[a, b]"));
+  }
+
+  @Test
+  public void givenSameElements_whenIsIn_thenEqualAndPrintedOnce() {
+    Predicate<String> p = Predicates.isIn(asList("a", "b", "a"));
+    assertThat(p, is(Predicates.isIn(asList("a", "b"))));
+    assertThat(p.toString(), is("isIn[a, b]"));
+  }
+}
@@ -0,0 +1,128 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.core.Evaluable;
+import com.github.valid8j.pcond.core.printable.PrintablePredicate;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory;
+import com.github.valid8j.pcond.forms.Functions;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.pcond.forms.Printables;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.function.Predicate;
+
+import static com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.optimize;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PredicateOptimizerTest extends TestBase {
+  private final Predicate<String> a = Predicates.isNotNull();
+  private final Predicate<String> b = Predicates.isEmptyString();
+  private final Predicate<String> c = Predicates.isEqualTo("hello");
+
+  @Test
+  public void givenNestedConjunctions_whenOptimized_thenFlattened() {
+    Predicate<String> optimized = optimize(Predicates.and(Predicates.and(a, b), c));
+
+    assertThat(optimized, is(Predicates.and(a, b, c)));
+    assertThat(((Evaluable.Composite<?>) optimized).children().size(), is(3));
+  }
+
+  @Test
+  public void givenConjunctionAndDisjunction_whenOptimized_thenNotFlattened() {
+    Predicate<String> original = Predicates.and(Predicates.or(a, b), c);
+
+    assertThat(optimize(original), sameInstance(original));
+  }
+
+  @Test
+  public void givenDuplicatedChildren_whenOptimized_thenDeduplicated() {
+    assertThat(optimize(Predicates.or(a, b, a)), is(Predicates.or(a, b)));
+  }
+
+  @Test
+  public void givenAlwaysTrueInConjunction_whenOptimized_thenRemoved() {
+    assertThat(optimize(Predicates.and(a, Predicates.alwaysTrue(), b)), is(Predicates.and(a, b)));
+    assertThat(optimize(Predicates.and(Predicates.alwaysTrue(), c)), is(c));
+  }
+
+  @Test
+  public void givenDoubleNegation_whenOptimized_thenTargetReturned() {
+    assertThat(optimize(Predicates.not(Predicates.not(c))), is(c));
+  }
+
+  @Test
+  public void givenIdentityTransformation_whenOptimized_thenCheckerReturned() {
+    assertThat(optimize(Predicates.transform(Functions.<String>identity()).check(c)), is(c));
+  }
+
+  @Test
+  public void givenOptimizedPredicate_whenTested_thenResultsAreSame() {
+    Predicate<String> original = Predicates.and(Predicates.not(Predicates.not(a)), Predicates.and(Predicates.alwaysTrue(), Predicates.or(b, c, b)));
+    Predicate<String> optimized = optimize(original);
+
+    for (String each : new String[] { "", "hello", "world" })
+      assertThat(optimized.test(each), is(original.test(each)));
+  }
+
+  @Test
+  public void givenAdjacentBounds_whenOptimized_thenFusedIntoRange() {
+    Predicate<Integer> original = Predicates.allOf(Predicates.ge(0), Predicates.lt(100));
+    Predicate<Integer> optimized = optimize(original);
+
+    assertThat(optimized, is(Predicates.inRange(0, true, 100, false)));
+    assertThat(optimized.toString(), is("[0,100)"));
+    for (int each : new int[] { -1, 0, 99, 100 })
+      assertThat(optimized.test(each), is(original.test(each)));
+  }
+
+  @Test
+  public void givenIntBounds_whenOptimized_thenFusedIntoIntRange() {
+    Predicate<Integer> optimized = optimize(Predicates.and(
+        ParameterizedLeafFactory.createIntComparison(ParameterizedLeafFactory.LESS_THAN_OR_EQUAL_TO, 10),
+        ParameterizedLeafFactory.createIntComparison(ParameterizedLeafFactory.GREATER_THAN, 0)));
+
+    assertThat(optimized, instanceOf(PrintablePredicateFactory.IntRange.class));
+    assertThat(optimized.toString(), is("(0,10]"));
+    assertThat(((PrintablePredicateFactory.IntRange<?>) optimized).test(0), is(false));
+    assertThat(((PrintablePredicateFactory.IntRange<?>) optimized).test(10), is(true));
+  }
+
+  @Test
+  public void givenNonAdjacentBounds_whenOptimized_thenNotFused() {
+    Predicate<Integer> original = Predicates.and(Predicates.ge(0), Predicates.isNotNull(), Predicates.lt(100));
+
+    assertThat(optimize(original), sameInstance(original));
+  }
+
+  @Test
+  public void givenDistinctLambdaPredicates_whenOptimized_thenNotDeduplicated() {
+    Predicate<String> startsWithA = Printables.predicate("startsWithA", (String s) -> s.startsWith("A"));
+    Predicate<String> endsWithZ = Printables.predicate("endsWithZ", (String s) -> s.endsWith("Z"));
+    Predicate<String> allOf = optimize(Predicates.allOf(startsWithA, endsWithZ));
+    Predicate<String> anyOf = optimize(Predicates.anyOf(startsWithA, endsWithZ));
+
+    assertThat(allOf.test("Abc"), is(false));
+    assertThat(anyOf.test("xyZ"), is(true));
+    assertThat(((PrintablePredicate<String>) Predicates.allOf(startsWithA, endsWithZ)).evaluationPlan().test("Abc"), is(false));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void givenOptimizedPredicate_whenMadeTrivial_thenCachesAreNotInherited() {
+    PrintablePredicate<String> original = (PrintablePredicate<String>) Predicates.and(Predicates.and(a, b), c);
+    Predicate<String> optimizedOriginal = original.optimized();
+    original.evaluationPlan();
+    original.adaptiveEvaluationPlan();
+
+    PrintablePredicate<String> trivial = original.makeTrivial();
+
+    assertThat(((PrintablePredicate<String>) optimizedOriginal).isSquashable(), is(false));
+    assertThat(((PrintablePredicate<String>) trivial.optimized()).isSquashable(), is(true));
+    assertThat(trivial.evaluationPlan() == original.evaluationPlan(), is(false));
+    assertThat(trivial.evaluationPlan().test("hello"), is(false));
+  }
+}
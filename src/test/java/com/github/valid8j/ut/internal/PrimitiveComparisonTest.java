@@ -0,0 +1,93 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.core.EvaluationPlan;
+import com.github.valid8j.pcond.core.printable.PrintablePredicate;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.IntComparison;
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory;
+import com.github.valid8j.pcond.fluent.Statement;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.function.Predicate;
+
+import static com.github.valid8j.fluent.Expectations.assertStatement;
+import static com.github.valid8j.pcond.core.printable.PrintablePredicateFactory.ParameterizedLeafFactory.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PrimitiveComparisonTest extends TestBase {
+  @Test
+  public void givenIntComparison_thenEqualToAndPrintedSameAsGenericOne() {
+    Predicate<Integer> p = ParameterizedLeafFactory.createIntComparison(GREATER_THAN, 10);
+
+    assertThat(p, is(Predicates.greaterThan(10)));
+    assertThat(p.hashCode(), is(Predicates.greaterThan(10).hashCode()));
+    assertThat(p.toString(), is(Predicates.greaterThan(10).toString()));
+  }
+
+  @Test
+  public void givenIntComparisons_whenTest_thenSameAsGenericOnes() {
+    for (ParameterizedLeafFactory each : asList(GREATER_THAN, GREATER_THAN_OR_EQUAL_TO, LESS_THAN, LESS_THAN_OR_EQUAL_TO, EQUAL_TO)) {
+      Predicate<Integer> generic = ParameterizedLeafFactory.create(each, asList(0));
+      Predicate<Integer> specialized = ParameterizedLeafFactory.createIntComparison(each, 0);
+      for (int v : new int[] { Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE }) {
+        assertThat(each + ":" + v, specialized.test(v), is(generic.test(v)));
+        assertThat(each + ":" + v, ((IntComparison<Integer>) specialized).test(v), is(generic.test(v)));
+      }
+    }
+  }
+
+  @Test
+  public void givenDoubleComparisons_whenTestNaNAndNegativeZero_thenSameAsGenericOnes() {
+    for (ParameterizedLeafFactory each : asList(GREATER_THAN, GREATER_THAN_OR_EQUAL_TO, LESS_THAN, LESS_THAN_OR_EQUAL_TO, EQUAL_TO)) {
+      Predicate<Double> generic = ParameterizedLeafFactory.create(each, asList(0.0));
+      Predicate<Double> specialized = ParameterizedLeafFactory.createDoubleComparison(each, 0.0);
+      for (double v : new double[] { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, 1.0 })
+        assertThat(each + ":" + v, specialized.test(v), is(generic.test(v)));
+    }
+  }
+
+  @Test
+  public void givenPrimitiveLeaves_whenCompiledIntoPlan_thenPrimitiveOverloadsAreCalled() {
+    PrintablePredicate<Number> p = (PrintablePredicate<Number>) Predicates.<Number>and(
+        ParameterizedLeafFactory.createIntComparison(GREATER_THAN, 0),
+        ParameterizedLeafFactory.createLongComparison(LESS_THAN, 100L),
+        PrintablePredicateFactory.doubleRange(0.5, true, 99.5, false));
+    EvaluationPlan<Number> plan = p.evaluationPlan();
+
+    assertThat(plan.toString(), containsString("INT_LEAF"));
+    assertThat(plan.toString(), containsString("LONG_LEAF"));
+    assertThat(plan.toString(), containsString("DOUBLE_LEAF"));
+    assertThat(plan.toString(), not(containsString(" LEAF")));
+    for (Number v : asList(0, 1, 50, 99, 100, 50L, 0.7, 99.7))
+      assertThat(v.toString(), plan.test(v), is(p.test(v)));
+  }
+
+  @Test
+  public void givenIntRange_whenCompiledIntoPlan_thenPrimitiveOverloadIsCalled() {
+    PrintablePredicate<Integer> p = PrintablePredicateFactory.intRange(0, true, 10, false);
+    EvaluationPlan<Integer> plan = p.evaluationPlan();
+
+    assertThat(plan.toString(), containsString("INT_LEAF"));
+    for (int v : new int[] { -1, 0, 9, 10 })
+      assertThat(v + "", plan.test(v), is(p.test(v)));
+  }
+
+  @Test
+  public void givenFloatComparison_thenPrintedAsFloat() {
+    assertThat(ParameterizedLeafFactory.createFloatComparison(LESS_THAN, 0.1f).toString(), is(Predicates.lessThan(0.1f).toString()));
+  }
+
+  @Test
+  public void givenFluentCheckers_whenPrimitiveBoundsGiven_thenPass() {
+    assertStatement(Statement.integerValue(5).then().greaterThan(1).lessThan(10));
+    assertStatement(Statement.longValue(5L).then().greaterThanOrEqualTo(5L).lessThanOrEqualTo(5L));
+    assertStatement(Statement.shortValue((short) 5).then().greaterThan((short) 1));
+    assertStatement(Statement.floatValue(0.1f).then().equalTo(0.1f));
+  }
+}
@@ -3,6 +3,7 @@ package com.github.valid8j.ut.internal;
 import com.github.valid8j.classic.IllegalValueException;
 import com.github.valid8j.utils.testbase.TestBase;
 import com.github.valid8j.classic.TestAssertions;
+import com.github.valid8j.pcond.core.Evaluable;
 import com.github.valid8j.pcond.forms.Functions;
 import com.github.valid8j.pcond.forms.Predicates;
 import com.github.valid8j.pcond.forms.Printables;
@@ -170,6 +171,37 @@ public class PrintablesFunctionTest {
       assertEquals(f1.apply("hello"), "hello");
     }
 
+    @Test
+    public void testAndThen$associative() {
+      Function<String, Integer> f1 = Functions.<String>identity().andThen(Functions.stringify()).andThen(Functions.length());
+      Function<String, Integer> f2 = Functions.<String>identity().andThen(Functions.stringify().andThen(Functions.length()));
+
+      assertThat(f1, is(f2));
+      assertThat(f1.hashCode(), is(f2.hashCode()));
+      assertThat(f1.apply("hello"), is(5));
+    }
+
+    @Test
+    public void testAndThen$longChain() {
+      Function<Object, Object> f = Functions.identity();
+      for (int i = 0; i < 5_000; i++)
+        f = f.andThen(Functions.identity());
+
+      assertEquals("hello", f.apply("hello"));
+    }
+
+    @Test
+    public void testAndThen$tailIsCachedAtEveryLevel() {
+      Evaluable.Func<Object> f = (Evaluable.Func<Object>) Functions.identity()
+          .andThen(Functions.stringify())
+          .andThen(Functions.length());
+      Evaluable.Func<Object> tail = (Evaluable.Func<Object>) f.tail().orElseThrow(AssertionError::new);
+
+      assertThat(f.tail().orElseThrow(AssertionError::new), sameInstance(tail));
+      assertThat(tail.tail().orElseThrow(AssertionError::new), sameInstance(tail.tail().orElseThrow(AssertionError::new)));
+      assertThat(tail.toString(), is("stringify->length"));
+    }
+
     @Test
     public void testComposeParameterized() {
       Function<?, ?> f1 = Functions.identity().compose(Functions.elementAt(0));
@@ -0,0 +1,57 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.core.printable.PrintablePredicateFactory;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.function.Predicate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RangeTest extends TestBase {
+  @Test
+  public void givenHalfOpenRange_whenTested_thenBoundsHandled() {
+    Predicate<String> p = Predicates.inRange("b", true, "d", false);
+    assertThat(p.toString(), is("[b,d)"));
+    assertThat(p.test("a"), is(false));
+    assertThat(p.test("b"), is(true));
+    assertThat(p.test("c"), is(true));
+    assertThat(p.test("d"), is(false));
+  }
+
+  @Test
+  public void givenIntRange_whenTested_thenSameAsBoxed() {
+    PrintablePredicateFactory.IntRange<Integer> p = PrintablePredicateFactory.intRange(0, true, 100, false);
+    for (int each : new int[] { Integer.MIN_VALUE, -1, 0, 99, 100, Integer.MAX_VALUE })
+      assertThat(p.test(each), is(p.test(Integer.valueOf(each))));
+    assertThat(p.test(0), is(true));
+    assertThat(p.test(100), is(false));
+  }
+
+  @Test
+  public void givenLongRange_whenTested_thenBoundsHandled() {
+    PrintablePredicateFactory.LongRange<Long> p = PrintablePredicateFactory.longRange(0L, false, Long.MAX_VALUE, true);
+    assertThat(p.toString(), is("(0," + Long.MAX_VALUE + "]"));
+    assertThat(p.test(0L), is(false));
+    assertThat(p.test(Long.MAX_VALUE), is(true));
+  }
+
+  @Test
+  public void givenDoubleRange_whenTested_thenComparedByDoubleCompare() {
+    PrintablePredicateFactory.DoubleRange<Double> p = PrintablePredicateFactory.doubleRange(0.0, true, 1.0, true);
+    assertThat(p.test(-0.0), is(false));
+    assertThat(p.test(0.5), is(true));
+    assertThat(p.test(Double.NaN), is(false));
+  }
+
+  @Test
+  public void givenSameBounds_whenSpecializedDifferently_thenEqual() {
+    Predicate<Integer> generic = Predicates.inRange(0, true, 100, false);
+    Predicate<Integer> specialized = PrintablePredicateFactory.intRange(0, true, 100, false);
+    assertThat(generic.equals(specialized), is(true));
+    assertThat(specialized.equals(generic), is(true));
+    assertThat(generic.hashCode(), is(specialized.hashCode()));
+  }
+}
@@ -0,0 +1,64 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.classic.IllegalValueException;
+import com.github.valid8j.classic.Validates;
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.pcond.internals.InternalUtils;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RegexPatternTest extends TestBase {
+  @Test
+  public void givenSameRegex_whenCompilePattern_thenCachedPatternReturned() {
+    assertThat(InternalUtils.compilePattern("[a-z]+[0-9]"), sameInstance(InternalUtils.compilePattern("[a-z]+[0-9]")));
+  }
+
+  @Test
+  public void givenRegex_whenMatchesRegex_thenWholeStringMatched() {
+    Predicate<String> p = Predicates.matchesRegex("[a-z]+");
+    assertThat(p.test("hello"), is(true));
+    assertThat(p.test("hello!"), is(false));
+  }
+
+  @Test
+  public void givenPattern_whenMatchesRegex_thenPrintedAndTestedSameAsString() {
+    Predicate<String> p = Predicates.matchesRegex(Pattern.compile("[a-z]+"));
+    assertThat(p.toString(), is(Predicates.matchesRegex("[a-z]+").toString()));
+    assertThat(p.test("hello"), is(true));
+    assertThat(p.test("hello!"), is(false));
+  }
+
+  @Test
+  public void givenManyRegexes_whenCompilePattern_thenRecentlyUsedPatternKept() {
+    Pattern recentlyUsed = InternalUtils.compilePattern("recently-used");
+    for (int i = 0; i < 1_000; i++) {
+      InternalUtils.compilePattern("regex-" + i);
+      assertThat(InternalUtils.compilePattern("recently-used"), sameInstance(recentlyUsed));
+    }
+  }
+
+  @Test
+  public void givenInvalidRegex_whenMatchesRegexCreated_thenNotThrownUntilTested() {
+    Predicate<String> p = Predicates.matchesRegex("(");
+    assertThat(p.toString(), is("matchesRegex[(]"));
+    try {
+      p.test("hello");
+      throw new AssertionError("PatternSyntaxException should have been thrown.");
+    } catch (PatternSyntaxException e) {
+      assertThat(e.getPattern(), is("("));
+    }
+  }
+
+  @Test(expected = IllegalValueException.class)
+  public void givenInvalidRegex_whenValidated_thenReportedAsFailure() {
+    Validates.validate("hello", Predicates.matchesRegex("("));
+  }
+}
@@ -0,0 +1,56 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.metamor.Dataset;
+import com.github.valid8j.pcond.core.Evaluator;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SnapshotTest extends TestBase {
+  @Test
+  public void givenOnGoingDataset_whenCopiedAndExtended_thenEachSeesItsOwnElements() {
+    Dataset.OnGoing<String> first = new Dataset.OnGoing.Impl<>("out");
+    first.add("a").add("b");
+    Dataset.OnGoing<String> second = new Dataset.OnGoing.Impl<>("out", first);
+    second.add("c");
+    first.add("X");
+
+    assertThat(first.stream().collect(toList()), is(asList("a", "b", "X")));
+    assertThat(second.stream().collect(toList()), is(asList("a", "b", "c")));
+    assertThat(second.close().stream().collect(toList()), is(asList("a", "b", "c")));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void givenOnGoingDataset_whenGetBeyondItsSize_thenThrown() {
+    Dataset.OnGoing<String> first = new Dataset.OnGoing.Impl<>("out");
+    first.add("a");
+    Dataset.OnGoing<String> second = new Dataset.OnGoing.Impl<>("out", first);
+    first.add("b");
+    second.get(1);
+  }
+
+  @Test
+  public void givenDeferredSnapshot_thenMaterializedOnlyWhenRequested() {
+    AtomicInteger calls = new AtomicInteger();
+    Object value = new Object();
+    Object snapshot = Evaluator.Snapshottable.Deferred.of(() -> {
+      calls.incrementAndGet();
+      return value;
+    });
+    assertThat(calls.get(), is(0));
+    assertThat(Evaluator.Snapshottable.materializeIfDeferred(snapshot), sameInstance(value));
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test
+  public void givenDeferredSnapshotOfNull_thenMaterializedToNullObject() {
+    assertThat(Evaluator.Snapshottable.materializeIfDeferred(Evaluator.Snapshottable.Deferred.of(() -> null)), sameInstance(Evaluator.Snapshottable.NULL));
+  }
+}
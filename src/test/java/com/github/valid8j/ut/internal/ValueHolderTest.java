@@ -0,0 +1,36 @@
+package com.github.valid8j.ut.internal;
+
+import com.github.valid8j.pcond.core.ValueHolder;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ValueHolderTest extends TestBase {
+  @Test
+  public void givenBooleans_whenHoldersCreated_thenCanonicalInstancesReturned() {
+    assertThat(ValueHolder.forBoolean(true), sameInstance(ValueHolder.forBoolean(true)));
+    assertThat(ValueHolder.forValue(true), sameInstance(ValueHolder.forBoolean(true)));
+    assertThat(ValueHolder.<Boolean>forValue(true).valueReturned(false), sameInstance(ValueHolder.forBoolean(false)));
+    assertThat(ValueHolder.forBoolean(false).returnedValue(), is(false));
+  }
+
+  @Test
+  public void givenSkippedEvaluations_whenHoldersCreated_thenCanonicalInstanceReturned() {
+    ValueHolder<Object> skipped = ValueHolder.forValue(new Object()).evaluationSkipped();
+
+    assertThat(skipped, sameInstance(ValueHolder.forValue("hello").evaluationSkipped()));
+    assertThat(skipped.isEvaluationSkipped(), is(true));
+  }
+
+  @Test
+  public void givenNonBooleanValue_whenHolderCreated_thenValueIsKeptAsIs() {
+    Object value = new Object();
+    ValueHolder<Object> holder = ValueHolder.forValue(value);
+
+    assertThat(holder.returnedValue(), sameInstance(value));
+    assertThat(holder.clone(), sameInstance(holder));
+    assertThat(ValueHolder.forValue(value), not(sameInstance(holder)));
+  }
+}
@@ -43,6 +43,12 @@ public class MoreFluentComparableNumberCheckerTest {
     assertStatement(Statement.integerValue(var).then().equalTo(1));
   }
 
+  @Test
+  public void test_Integer_in() {
+    int var = 404;
+    assertStatement(Statement.integerValue(var).then().in(200, 404, 500).notIn(201, 204));
+  }
+
   @Test
   public void test_Long() {
     long var = 1;
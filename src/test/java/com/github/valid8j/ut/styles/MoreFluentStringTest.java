@@ -2,6 +2,7 @@ package com.github.valid8j.ut.styles;
 
 import com.github.valid8j.utils.testbase.TestBase;
 import com.github.valid8j.pcond.fluent.Statement;
+import org.junit.ComparisonFailure;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -9,6 +10,8 @@ import java.util.regex.Pattern;
 
 import static com.github.valid8j.fluent.Expectations.assertStatement;
 import static com.github.valid8j.fluent.Expectations.that;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 
 public class MoreFluentStringTest extends TestBase {
@@ -79,6 +82,48 @@ public class MoreFluentStringTest extends TestBase {
     assertStatement(Statement.stringValue(var).then().containingSubstrings("hello", "world"));
   }
 
+  @Test
+  public void test_containingAll() {
+    String var = "world, hello";
+    assertStatement(Statement.stringValue(var).then().containingAll("hello", "world"));
+  }
+
+  @Test
+  public void test_containingAllInOrder() {
+    String var = "hello world";
+    assertStatement(Statement.stringValue(var).then().containingAllInOrder("hello", "world"));
+  }
+
+  @Test
+  public void test_containingAllInOrder_failing() {
+    String var = "world, hello";
+    try {
+      assertStatement(Statement.stringValue(var).then().containingAllInOrder("hello", "world"));
+    } catch (ComparisonFailure e) {
+      assertThat(e.getActual(), containsString("<\"world\":NOT FOUND>"));
+      return;
+    }
+    throw new AssertionError("Should have failed");
+  }
+
+  @Test
+  public void test_in() {
+    String var = "POST";
+    assertStatement(Statement.stringValue(var).then().in("GET", "PUT", "POST"));
+  }
+
+  @Test
+  public void test_in_failing() {
+    String var = "PATCH";
+    try {
+      assertStatement(Statement.stringValue(var).then().in("GET", "PUT", "POST"));
+    } catch (ComparisonFailure e) {
+      assertThat(e.getExpected(), containsString("isIn[GET, PUT, POST]"));
+      return;
+    }
+    throw new AssertionError("Should have failed");
+  }
+
   @Ignore
   @Test
   public void test_findSubstrings_failing() {
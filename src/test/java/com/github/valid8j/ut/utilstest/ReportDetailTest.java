@@ -175,4 +175,15 @@ public class ReportDetailTest extends TestBase {
     }
   }
 
+  @Test
+  public void givenFindSubstrings_whenFails_thenEachActualValueDetailShowsCursoredString() {
+    try {
+      validate("hello world foo", Cursors.findSubstrings("hello", "bar", "foo"));
+      throw new Error(); // Make it fail if PC reaches here.
+    } catch (IllegalValueException e) {
+      String message = e.getMessage();
+      assertThat(message.split("\\.Detail of failure \\[[01]] \\(actual value\\)\\R----\\RCursoredString:\\[hello world foo]\\R----", -1).length, isEqualTo(3));
+      assertThat(message, not(containsString("NOT FOUND")));
+    }
+  }
 }
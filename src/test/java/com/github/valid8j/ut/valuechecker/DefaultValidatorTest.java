@@ -1,22 +1,41 @@
 package com.github.valid8j.ut.valuechecker;
 
+import com.github.valid8j.pcond.core.EvaluationEntry;
+import com.github.valid8j.pcond.core.EvaluationListener;
+import com.github.valid8j.pcond.core.Evaluator;
 import com.github.valid8j.pcond.forms.Functions;
 import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.pcond.forms.Printables;
+import com.github.valid8j.pcond.validator.ExceptionComposer;
+import com.github.valid8j.pcond.validator.MessageComposer;
+import com.github.valid8j.pcond.validator.ReportComposer;
 import com.github.valid8j.pcond.validator.Validator;
+import com.github.valid8j.ut.testdata.IntentionalException;
 import com.github.valid8j.utils.testbase.TestBase;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.github.valid8j.pcond.forms.Functions.length;
+import static java.util.Arrays.asList;
 import static com.github.valid8j.pcond.forms.Predicates.*;
 import static com.github.valid8j.utils.TestUtils.lineAt;
 import static com.github.valid8j.utils.TestUtils.numLines;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
 
 public class DefaultValidatorTest extends TestBase {
@@ -259,6 +278,310 @@ public class DefaultValidatorTest extends TestBase {
     }
   }
   
+  @Test
+  public void withEvaluatorOnlyOnFailure_thenPass() {
+    String value = createAssertionProvider(useEvaluatorOnlyOnFailure(useEvaluator(newProperties(), true), true))
+        .requireArgument("Hello World, everyone", and(isNotNull(), isEmptyString().negate(), transform(length()).check(gt(10))));
+    assertThat(value, equalTo("Hello World, everyone"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withEvaluatorOnlyOnFailure_thenFailWithDetailedReport() {
+    try {
+      createAssertionProvider(useEvaluatorOnlyOnFailure(nameWidth(useEvaluator(newProperties(), true), 100), true))
+          .requireArgument("hello", and(isNotNull(), isEmptyString().negate(), transform(length()).check(gt(10))));
+    } catch (IllegalArgumentException e) {
+      e.printStackTrace();
+      assertThat(lineAt(e.getMessage(), 1), allOf(
+          CoreMatchers.containsString("Mismatch>:"),
+          CoreMatchers.containsString("and"),
+          CoreMatchers.containsString("->false")));
+      assertThat(lineAt(e.getMessage(), 5), allOf(
+          CoreMatchers.containsString("Mismatch>:"),
+          CoreMatchers.containsString(">[10]"),
+          CoreMatchers.containsString("->false")));
+      throw e;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withEvaluatorOnlyOnFailure_streamIsEvaluatedOnlyOnce() {
+    try {
+      createAssertionProvider(useEvaluatorOnlyOnFailure(useEvaluator(newProperties(), true), true))
+          .requireArgument(Stream.of("hello", "world"), allMatch(isEqualTo("hello")));
+    } catch (IllegalArgumentException e) {
+      e.printStackTrace();
+      assertThat(e.getMessage(), CoreMatchers.containsString("allMatch"));
+      throw e;
+    }
+  }
+
+  @Test
+  public void withEvaluatorOnlyOnFailure_whenErrorThrown_thenPropagatedWithoutReplay() {
+    AtomicInteger numCalls = new AtomicInteger();
+    Predicate<String> cond = Printables.predicate("throwingError", (String v) -> {
+      numCalls.incrementAndGet();
+      throw new StackOverflowError("intentional");
+    });
+    try {
+      createAssertionProvider(useEvaluatorOnlyOnFailure(useEvaluator(newProperties(), true), true)).requireArgument("hello", cond);
+    } catch (StackOverflowError e) {
+      assertEquals("intentional", e.getMessage());
+      assertEquals(1, numCalls.get());
+      return;
+    }
+    throw new AssertionError("An error should have been thrown.");
+  }
+
+  @Test
+  public void withLazyEvaluationEntries_thenReportIsSameAsEager() {
+    Predicate<String> cond = Predicates.allOf(
+        isNotNull(),
+        transform(length()).check(gt(10)),
+        transform(Printables.<String, Integer>function("throwing", v -> {
+          throw new IntentionalException("intentional");
+        })).check(gt(0)));
+    String eager = messageOfFailure(createAssertionProvider(lazyEvaluationEntries(useEvaluator(newProperties(), true), false)), "hello", cond);
+    String lazy = messageOfFailure(createAssertionProvider(lazyEvaluationEntries(useEvaluator(newProperties(), true), true)), "hello", cond);
+    assertThat(lazy, CoreMatchers.containsString("IntentionalException"));
+    assertEquals(eager, lazy);
+  }
+
+  @Test
+  public void withLazyEvaluationEntries_whenInputMutatedAfterFailingLeaf_thenDetailShowsInputAsEvaluated() {
+    Predicate<Counter> cond = Predicates.allOf(
+        Printables.predicate("isPositive", v -> v.count > 0),
+        Printables.predicate("increment", v -> ++v.count > 0));
+    String lazy = messageOfFailure(createAssertionProvider(lazyEvaluationEntries(useEvaluator(newProperties(), true), true)), new Counter(), cond);
+
+    assertThat(lazy.matches("(?s).*\\(actual value\\)\\R----\\RCounter\\[count=0]\\R----.*"), equalTo(true));
+  }
+
+  @Test
+  public void withParallelStreamPredicate_thenLowestOffendingElementReported() {
+    Validator.Impl validator = createAssertionProvider(parallelStreamPredicateThreshold(useEvaluator(newProperties(), true), 1000));
+    String message = messageOfFailure(validator, IntStream.range(0, 100_000).boxed(), allMatch(Predicates.<Integer>lt(70_000).or(isEqualTo(80_000))));
+
+    assertThat(message, allOf(
+        CoreMatchers.containsString("70000"),
+        CoreMatchers.not(CoreMatchers.containsString("70001"))));
+  }
+
+  @Test
+  public void withParallelStreamPredicate_whenStreamIsInfinite_thenCutAsSequential() {
+    Validator.Impl validator = createAssertionProvider(parallelStreamPredicateThreshold(useEvaluator(newProperties(), true), 1000));
+
+    validator.requireArgument(Stream.iterate(0, i -> i + 1), anyMatch(isEqualTo(5)));
+    validator.requireArgument(Stream.iterate(0, i -> i + 1), anyMatch(isEqualTo(1_000_000)));
+    assertThat(messageOfFailure(validator, Stream.iterate(0, i -> i + 1), allMatch(Predicates.<Integer>lt(200_000))), CoreMatchers.containsString("200000"));
+  }
+
+  @Test(expected = StackOverflowError.class)
+  public void withParallelStreamPredicate_whenErrorThrownInWorker_thenPropagated() {
+    Validator.Impl validator = createAssertionProvider(parallelStreamPredicateThreshold(useEvaluator(newProperties(), true), 1000));
+
+    validator.requireArgument(IntStream.range(0, 10_000).boxed(), allMatch(Printables.predicate("throwingError", (Integer v) -> {
+      if (v == 5_000)
+        throw new StackOverflowError("intentional");
+      return true;
+    })));
+  }
+
+  @Test
+  public void withParallelStreamPredicate_thenPass() {
+    Validator.Impl validator = createAssertionProvider(parallelStreamPredicateThreshold(useEvaluator(newProperties(), true), 1000));
+
+    validator.requireArgument(IntStream.range(0, 100_000).boxed(), noneMatch(Predicates.<Integer>lt(0)));
+    validator.requireArgument(IntStream.range(0, 100_000).boxed(), anyMatch(isEqualTo(99_999)));
+    validator.requireArgument(IntStream.range(0, 10).boxed(), allMatch(Predicates.<Integer>lt(10)));
+  }
+
+  @Test
+  public void withStreamTraceBudget_thenMiddleElementsAreSummarized() {
+    Validator.Impl validator = createAssertionProvider(streamTraceBudget(useEvaluator(newProperties(), true), 2));
+    String message = messageOfFailure(validator, IntStream.range(0, 10_000).boxed(), allMatch(Predicates.<Integer>lt(9_000)));
+
+    assertThat(message, allOf(
+        CoreMatchers.containsString("(8997 elements omitted)"),
+        CoreMatchers.containsString("8999"),
+        CoreMatchers.containsString("9000"),
+        CoreMatchers.not(CoreMatchers.containsString("4500"))));
+  }
+
+  @Test
+  public void withStreamTraceBudget_whenStreamIsShort_thenReportIsSameAsUnbounded() {
+    String unbounded = messageOfFailure(createAssertionProvider(useEvaluator(newProperties(), true)), Stream.of("a", "b", "c", "d"), noneMatch(isEqualTo("d")));
+    String bounded = messageOfFailure(createAssertionProvider(streamTraceBudget(useEvaluator(newProperties(), true), 2)), Stream.of("a", "b", "c", "d"), noneMatch(isEqualTo("d")));
+
+    // Identity hash codes of the streams (and therefore column widths) differ.
+    assertEquals(normalize(unbounded), normalize(bounded));
+  }
+
+  private static String normalize(String message) {
+    return message.replaceAll("@[0-9a-f]+", "@").replaceAll(" +", " ");
+  }
+
+  @Test
+  public void withMemoizeFunctions_thenSameFunctionIsAppliedOnlyOncePerInput() {
+    AtomicInteger numApplications = new AtomicInteger(0);
+    Function<String, Integer> parseInt = Printables.function("parseInt", (String v) -> {
+      numApplications.incrementAndGet();
+      return Integer.parseInt(v);
+    });
+    Predicate<String> cond = Predicates.allOf(transform(parseInt).check(gt(0)), transform(parseInt).check(lt(100)));
+
+    createAssertionProvider(memoizeFunctions(useEvaluator(newProperties(), true), true)).requireArgument("42", cond);
+    assertEquals(1, numApplications.get());
+
+    createAssertionProvider(memoizeFunctions(useEvaluator(newProperties(), true), false)).requireArgument("42", cond);
+    assertEquals(3, numApplications.get());
+  }
+
+  @Test
+  public void withMemoizeFunctions_thenDistinctLambdaFunctionsAreNotShared() {
+    Predicate<String> cond = Predicates.allOf(
+        transform(Printables.function("len", (String v) -> v.length())).check(isEqualTo(3)),
+        transform(Printables.function("upper", (String v) -> v.toUpperCase())).check(isEqualTo("ABC")));
+
+    assertEquals("abc", createAssertionProvider(memoizeFunctions(useEvaluator(newProperties(), true), true)).requireArgument("abc", cond));
+  }
+
+  @Test
+  public void withAdaptiveJunctionOrdering_thenReportListsChildrenInDeclaredOrder() {
+    Validator.Impl validator = createAssertionProvider(adaptiveJunctionOrdering(useEvaluatorOnlyOnFailure(useEvaluator(newProperties(), true), true), true));
+    Predicate<String> cond = and(Printables.predicate("expensive", (String v) -> v.hashCode() != 0), isEqualTo("world"));
+    String message = null;
+    for (int i = 0; i < 2_000; i++)
+      message = messageOfFailure(validator, "hello", cond);
+
+    assertThat(message.indexOf("expensive"), lessThan(message.indexOf("isEqualTo")));
+    assertEquals("world", validator.requireArgument("world", cond));
+  }
+
+  @Test
+  public void withEvaluationListener_thenNotifiedOfEachFormWithDepth() {
+    List<String> events = new ArrayList<>();
+    EvaluationListener listener = new EvaluationListener() {
+      @Override
+      public void enter(String formName, EvaluationEntry.Type type, int depth) {
+        events.add("enter:" + depth + ":" + type);
+      }
+
+      @Override
+      public void leave(String formName, EvaluationEntry.Type type, int depth, long elapsedNanos) {
+        assertThat(elapsedNanos, greaterThanOrEqualTo(0L));
+        events.add("leave:" + depth + ":" + type);
+      }
+    };
+    Validator.Impl validator = new Validator.Impl(Validator.configurationFromProperties(useEvaluator(newProperties(), true))
+        .parentBuilder()
+        .evaluationListener(listener)
+        .build());
+
+    validator.requireArgument("hello", and(isNotNull(), transform(length()).check(gt(3))));
+
+    assertEquals(asList(
+        "enter:0:AND",
+        "enter:1:LEAF", "leave:1:LEAF",
+        "enter:1:TRANSFORM_AND_CHECK",
+        "enter:2:TRANSFORM",
+        "enter:3:FUNCTION", "enter:4:FUNCTION", "leave:4:FUNCTION", "leave:3:FUNCTION",
+        "leave:2:TRANSFORM",
+        "enter:2:CHECK",
+        "enter:3:LEAF", "leave:3:LEAF",
+        "leave:2:CHECK",
+        "leave:1:TRANSFORM_AND_CHECK",
+        "leave:0:AND"), events);
+  }
+
+  @Test
+  public void givenDistinctLambdaPredicates_whenCheckedOnEveryPath_thenNeitherIsDropped() {
+    Predicate<String> startsWithA = Printables.predicate("startsWithA", (String s) -> s.startsWith("A"));
+    Predicate<String> endsWithZ = Printables.predicate("endsWithZ", (String s) -> s.endsWith("Z"));
+    Predicate<String> allOf = Predicates.allOf(startsWithA, endsWithZ);
+    Predicate<String> anyOf = Predicates.anyOf(startsWithA, endsWithZ);
+    for (Validator.Impl validator : asList(
+        createAssertionProvider(useEvaluator(newProperties(), false)),
+        createAssertionProvider(useEvaluatorOnlyOnFailure(useEvaluator(newProperties(), true), true)),
+        createAssertionProvider(useEvaluator(newProperties(), true)))) {
+      assertThat(messageOfFailure(validator, "Abc", allOf), CoreMatchers.containsString("endsWithZ"));
+      assertEquals("AbZ", validator.requireArgument("AbZ", allOf));
+      assertEquals("xyZ", validator.requireArgument("xyZ", anyOf));
+    }
+  }
+
+  @Test
+  public void withoutEvaluator_thenPredicateOptimizedOnlyIfRequested() {
+    AtomicInteger numCalls = new AtomicInteger(0);
+    Predicate<String> counting = Printables.predicate("counting", (String s) -> numCalls.incrementAndGet() > 0);
+    Predicate<String> cond = Predicates.and(counting, counting);
+
+    createAssertionProvider(useEvaluator(newProperties(), false)).requireArgument("hello", cond);
+    assertEquals(2, numCalls.getAndSet(0));
+
+    Properties properties = useEvaluator(newProperties(), false);
+    properties.setProperty("optimizePredicates", "true");
+    createAssertionProvider(properties).requireArgument("hello", cond);
+    assertEquals(1, numCalls.get());
+  }
+
+  @Test
+  public void givenConfigurationImplementingOnlyOriginalMethods_thenOtherOptionsHaveDefaultValues() {
+    Validator.Configuration base = Validator.configurationFromProperties(newProperties());
+    Validator.Configuration configuration = new Validator.Configuration() {
+      @Override
+      public int summarizedStringLength() {
+        return base.summarizedStringLength();
+      }
+
+      @Override
+      public boolean useEvaluator() {
+        return true;
+      }
+
+      @Override
+      public MessageComposer messageComposer() {
+        return base.messageComposer();
+      }
+
+      @Override
+      public ReportComposer reportComposer() {
+        return base.reportComposer();
+      }
+
+      @Override
+      public ExceptionComposer exceptionComposer() {
+        return base.exceptionComposer();
+      }
+
+      @Override
+      public Optional<Debugging> debugging() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Builder parentBuilder() {
+        return base.parentBuilder();
+      }
+    };
+
+    assertEquals(false, configuration.useEvaluatorOnlyOnFailure());
+    assertEquals(false, configuration.optimizePredicates());
+    assertEquals(0, configuration.parallelStreamPredicateThreshold());
+    assertEquals(Optional.empty(), configuration.metrics());
+    assertEquals("hello", new Validator.Impl(configuration).requireArgument("hello", isNotNull()));
+    assertThat(messageOfFailure(new Validator.Impl(configuration), "hello", isEqualTo("world")), CoreMatchers.containsString("isEqualTo"));
+  }
+
+  private static <T> String messageOfFailure(Validator.Impl validator, T value, Predicate<T> cond) {
+    try {
+      validator.requireArgument(value, cond);
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+    throw new AssertionError("A check should have failed.");
+  }
+
   public Validator.Impl createAssertionProvider(Properties properties) {
     return new Validator.Impl(Validator.configurationFromProperties(properties));
   }
@@ -268,6 +591,36 @@ public class DefaultValidatorTest extends TestBase {
     return properties;
   }
   
+  public static Properties useEvaluatorOnlyOnFailure(Properties properties, boolean useEvaluatorOnlyOnFailure) {
+    properties.setProperty("useEvaluatorOnlyOnFailure", Objects.toString(useEvaluatorOnlyOnFailure));
+    return properties;
+  }
+
+  public static Properties lazyEvaluationEntries(Properties properties, boolean lazyEvaluationEntries) {
+    properties.setProperty("lazyEvaluationEntries", Objects.toString(lazyEvaluationEntries));
+    return properties;
+  }
+
+  public static Properties parallelStreamPredicateThreshold(Properties properties, int threshold) {
+    properties.setProperty("parallelStreamPredicateThreshold", Objects.toString(threshold));
+    return properties;
+  }
+
+  public static Properties streamTraceBudget(Properties properties, int budget) {
+    properties.setProperty("streamTraceBudget", Objects.toString(budget));
+    return properties;
+  }
+
+  public static Properties memoizeFunctions(Properties properties, boolean memoizeFunctions) {
+    properties.setProperty("memoizeFunctions", Objects.toString(memoizeFunctions));
+    return properties;
+  }
+
+  public static Properties adaptiveJunctionOrdering(Properties properties, boolean adaptiveJunctionOrdering) {
+    properties.setProperty("adaptiveJunctionOrdering", Objects.toString(adaptiveJunctionOrdering));
+    return properties;
+  }
+
   public static Properties nameWidth(Properties properties, int columns) {
     properties.setProperty("summarizedStringLength", Objects.toString(columns));
     return properties;
@@ -276,4 +629,18 @@ public class DefaultValidatorTest extends TestBase {
   public static Properties newProperties() {
     return new Properties();
   }
+
+  static class Counter implements Evaluator.Snapshottable {
+    int count = 0;
+
+    @Override
+    public Object snapshot() {
+      return "Counter[count=" + this.count + "]";
+    }
+
+    @Override
+    public String toString() {
+      return "Counter[count=" + this.count + "]";
+    }
+  }
 }
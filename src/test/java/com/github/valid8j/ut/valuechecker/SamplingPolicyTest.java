@@ -0,0 +1,85 @@
+package com.github.valid8j.ut.valuechecker;
+
+import com.github.valid8j.pcond.validator.MessageComposer;
+import com.github.valid8j.pcond.validator.SamplingPolicy;
+import com.github.valid8j.pcond.validator.Validator;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class SamplingPolicyTest extends TestBase {
+  @Test
+  public void givenZeroRateForPreconditions_whenRequire_thenPredicateNotEvaluated() {
+    AtomicInteger calls = new AtomicInteger();
+    Predicate<Object> isNotNull = v -> {
+      calls.incrementAndGet();
+      return v != null;
+    };
+    Validator validator = validator(new SamplingPolicy.Builder().rate(MessageComposer.Category.PRECONDITION, 0.0).build());
+
+    assertThat(validator.requireArgument(null, isNotNull), nullValue());
+    validator.checkPrecondition(null, isNotNull);
+    assertThat(calls.get(), is(0));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void givenZeroRateForPreconditions_whenEnsure_thenChecked() {
+    Validator validator = validator(new SamplingPolicy.Builder().rate(MessageComposer.Category.PRECONDITION, 0.0).build());
+    validator.ensureState(null, v -> v != null);
+  }
+
+  @Test(expected = ComparisonFailure.class)
+  public void givenZeroGlobalRate_whenAssertThat_thenStillChecked() {
+    validator(new SamplingPolicy.Builder().rate(0.0).build()).assertThat("hello", v -> v.equals("world"));
+  }
+
+  @Test
+  public void givenHalfRate_whenCheckedManyTimes_thenRoughlyHalfPerformed() {
+    SamplingPolicy policy = new SamplingPolicy.Builder().rate(0.5).build();
+    int performed = 0;
+    for (int i = 0; i < 10_000; i++)
+      if (policy.shouldCheck(MessageComposer.Category.VALIDATION))
+        performed++;
+    assertThat(performed, allOf(greaterThan(4_000), lessThan(6_000)));
+  }
+
+  @Test
+  public void givenProperties_whenFromProperties_thenOverridesApplied() {
+    Properties properties = new Properties();
+    properties.setProperty("samplingRate", "0.25");
+    properties.setProperty("samplingRate.POSTCONDITION", "1.0");
+    SamplingPolicy policy = SamplingPolicy.fromProperties(properties);
+    assertThat(policy.rateFor(MessageComposer.Category.PRECONDITION), is(0.25));
+    assertThat(policy.rateFor(MessageComposer.Category.POSTCONDITION), is(1.0));
+  }
+
+  @Test
+  public void givenNoProperties_thenAllChecksPerformed() {
+    SamplingPolicy policy = Validator.configurationFromProperties(new Properties()).samplingPolicy();
+    for (MessageComposer.Category each : MessageComposer.Category.values())
+      assertThat(policy.rateFor(each), is(1.0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void givenRateOutOfRange_whenBuild_thenRejected() {
+    new SamplingPolicy.Builder().rate(1.5).build();
+  }
+
+  private static Validator validator(SamplingPolicy policy) {
+    return new Validator.Impl(Validator.configurationFromProperties(new Properties())
+        .parentBuilder()
+        .samplingPolicy(policy)
+        .build());
+  }
+}
@@ -0,0 +1,75 @@
+package com.github.valid8j.ut.valuechecker;
+
+import com.github.valid8j.pcond.validator.Validator;
+import com.github.valid8j.utils.testbase.TestBase;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static com.github.valid8j.pcond.forms.Predicates.isEqualTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ValidationEventsTest extends TestBase {
+  @Test
+  public void whenCheckFailsDuringRecording_thenFailureEventRecorded() throws IOException {
+    Validator validator = validator(0);
+    List<RecordedEvent> events = record(() -> {
+      validator.requireArgument("hello", isEqualTo("hello"));
+      try {
+        validator.requireArgument("hello", isEqualTo("world"));
+      } catch (IllegalArgumentException ignored) {
+      }
+    });
+
+    List<RecordedEvent> failures = eventsNamed(events, "com.github.valid8j.CheckFailed");
+    assertThat(failures.size(), is(1));
+    assertThat(failures.get(0).getString("category"), is("PRECONDITION"));
+    assertThat(failures.get(0).getString("predicate"), is("isEqualTo[world]"));
+    assertThat(eventsNamed(events, "com.github.valid8j.SlowCheck").size(), is(0));
+  }
+
+  @Test
+  public void whenCheckIsSlowerThanThreshold_thenSlowCheckEventRecorded() throws IOException {
+    Validator validator = validator(1);
+    List<RecordedEvent> events = record(() -> validator.ensureNonNull("hello"));
+
+    List<RecordedEvent> slowChecks = eventsNamed(events, "com.github.valid8j.SlowCheck");
+    assertThat(slowChecks.size(), is(1));
+    assertThat(slowChecks.get(0).getString("category"), is("POSTCONDITION"));
+  }
+
+  private static Validator validator(long slowCheckThresholdNanos) {
+    return new Validator.Impl(Validator.configurationFromProperties(new Properties())
+        .parentBuilder()
+        .slowCheckThresholdNanos(slowCheckThresholdNanos)
+        .build());
+  }
+
+  private static List<RecordedEvent> record(Runnable action) throws IOException {
+    Path file = Files.createTempFile("valid8j", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("com.github.valid8j.CheckFailed");
+      recording.enable("com.github.valid8j.SlowCheck");
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+    return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+  }
+}
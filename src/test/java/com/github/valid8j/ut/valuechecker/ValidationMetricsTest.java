@@ -0,0 +1,113 @@
+package com.github.valid8j.ut.valuechecker;
+
+import com.github.valid8j.pcond.forms.Predicates;
+import com.github.valid8j.pcond.forms.Printables;
+import com.github.valid8j.pcond.validator.ValidationMetrics;
+import com.github.valid8j.pcond.validator.Validator;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Predicate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class ValidationMetricsTest extends TestBase {
+  @Test
+  public void givenMetricsRegistry_whenChecksPerformed_thenCountedPerPredicate() {
+    ValidationMetrics metrics = new ValidationMetrics();
+    Validator validator = new Validator.Impl(Validator.configurationFromProperties(new Properties())
+        .parentBuilder()
+        .metrics(metrics)
+        .build());
+
+    for (int i = 0; i < 3; i++)
+      validator.requireArgument("hello", Predicates.isNotNull());
+    try {
+      validator.requireArgument(null, Predicates.isNotNull());
+    } catch (IllegalArgumentException ignored) {
+    }
+    validator.requireArgument("hello", Predicates.isEqualTo("hello"));
+
+    List<ValidationMetrics.Stats> stats = metrics.snapshot();
+    assertThat(stats.size(), is(2));
+    ValidationMetrics.Stats isNotNull = stats.stream().filter(s -> s.name().equals("isNotNull")).findFirst().orElseThrow(AssertionError::new);
+    assertThat(isNotNull.passes(), is(3L));
+    assertThat(isNotNull.failures(), is(1L));
+    assertThat(isNotNull.percentileNanos(100), greaterThan(0L));
+  }
+
+  @Test
+  public void givenDistinctLambdaPredicates_whenRecorded_thenCountedSeparately() {
+    ValidationMetrics metrics = new ValidationMetrics();
+    Predicate<String> startsWithA = Printables.predicate("startsWithA", (String s) -> s.startsWith("A"));
+    Predicate<String> endsWithZ = Printables.predicate("endsWithZ", (String s) -> s.endsWith("Z"));
+
+    metrics.record(startsWithA, true, 10);
+    metrics.record(endsWithZ, false, 10);
+    metrics.record(endsWithZ, false, 10);
+
+    List<ValidationMetrics.Stats> stats = metrics.snapshot();
+    assertThat(stats.size(), is(2));
+    assertThat(stats.get(0).name(), is("endsWithZ"));
+    assertThat(stats.get(0).failures(), is(2L));
+    assertThat(stats.get(1).name(), is("startsWithA"));
+  }
+
+  @Test
+  public void givenPerCallArguments_whenRecordedBeyondMaxRecords_thenAddedUpInOthers() {
+    ValidationMetrics metrics = new ValidationMetrics(3);
+    for (int i = 0; i < 10; i++)
+      metrics.record(Predicates.isEqualTo("request-" + i), true, 10);
+    metrics.record(Predicates.isEqualTo("request-0"), true, 10);
+
+    List<ValidationMetrics.Stats> stats = metrics.snapshot();
+    assertThat(stats.size(), is(4));
+    assertThat(stats.stream().filter(s -> s.name().equals("isEqualTo[request-0]")).findFirst().orElseThrow(AssertionError::new).passes(), is(2L));
+    assertThat(stats.stream().filter(s -> s.name().equals(ValidationMetrics.OTHERS)).findFirst().orElseThrow(AssertionError::new).passes(), is(7L));
+  }
+
+  @Test
+  public void givenCompositeBuiltOnEveryCall_whenChecked_thenCountedInOneRecord() {
+    ValidationMetrics metrics = new ValidationMetrics();
+    Validator validator = new Validator.Impl(Validator.configurationFromProperties(new Properties())
+        .parentBuilder()
+        .metrics(metrics)
+        .build());
+
+    for (int i = 0; i < 3000; i++)
+      validator.requireArgument(i, Predicates.and(Predicates.isNotNull(), Predicates.greaterThanOrEqualTo(0)));
+
+    List<ValidationMetrics.Stats> stats = metrics.snapshot();
+    assertThat(stats.size(), is(1));
+    assertThat(stats.get(0).name(), is("(isNotNull&&>=[0])"));
+    assertThat(stats.get(0).passes(), is(3000L));
+  }
+
+  @Test
+  public void givenNoMetricsRegistry_thenNothingConfigured() {
+    assertThat(Validator.configurationFromProperties(new Properties()).metrics().isPresent(), is(false));
+  }
+
+  @Test
+  public void givenDurations_whenBucketed_thenBucketsCoverThem() {
+    long[] durations = { 0, 1, 3, 4, 5, 7, 8, 1_000, 1_000_000, Long.MAX_VALUE };
+    for (long each : durations) {
+      int bucket = bucketOf(each);
+      assertThat(each + ":" + bucket, ValidationMetrics.Histogram.lowerBoundOf(bucket), lessThanOrEqualTo(each));
+      assertThat(each + ":" + bucket, ValidationMetrics.Histogram.upperBoundOf(bucket), greaterThanOrEqualTo(each));
+    }
+  }
+
+  private static int bucketOf(long nanos) {
+    int ret = 0;
+    while (ValidationMetrics.Histogram.upperBoundOf(ret) < nanos)
+      ret++;
+    return ret;
+  }
+}
@@ -0,0 +1,128 @@
+package com.github.valid8j.ut.valuechecker;
+
+import com.github.valid8j.pcond.validator.Validator;
+import com.github.valid8j.utils.testbase.TestBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ValidatorInstanceTest extends TestBase {
+  private Validator.Configuration.Builder saved;
+
+  @Before
+  public void saveConfiguration() {
+    this.saved = Validator.instance().configuration().parentBuilder();
+  }
+
+  @After
+  public void restoreConfiguration() {
+    Validator.resetCurrentThread();
+    Validator.reconfigure(b -> {
+    }, this.saved);
+  }
+
+  @Test
+  public void givenNoReconfiguration_whenInstanceRequestedFromAnotherThread_thenSameInstanceReturned() throws InterruptedException {
+    Validator validator = Validator.instance();
+
+    assertThat(instanceOnAnotherThread(), sameInstance(validator));
+  }
+
+  @Test
+  public void whenReconfigured_thenNewConfigurationIsVisibleFromAnotherThread() throws InterruptedException {
+    Validator.reconfigure(b -> b.summarizedStringLength(123));
+
+    assertThat(Validator.instance().configuration().summarizedStringLength(), is(123));
+    assertThat(instanceOnAnotherThread().configuration().summarizedStringLength(), is(123));
+  }
+
+  @Test
+  public void whenReconfiguredForCurrentThread_thenOtherThreadsAreNotAffectedUntilReset() throws InterruptedException {
+    int globalValue = Validator.instance().configuration().summarizedStringLength();
+    Validator.reconfigureCurrentThread(b -> b.summarizedStringLength(globalValue + 1));
+
+    assertThat(Validator.instance().configuration().summarizedStringLength(), is(globalValue + 1));
+    assertThat(instanceOnAnotherThread().configuration().summarizedStringLength(), is(globalValue));
+
+    Validator.resetCurrentThread();
+    assertThat(Validator.instance().configuration().summarizedStringLength(), is(globalValue));
+  }
+
+  @Test
+  public void whenReconfiguredConcurrently_thenNoUpdateIsLost() throws Exception {
+    boolean useEvaluator = Validator.instance().configuration().useEvaluator();
+    int summarizedStringLength = Validator.instance().configuration().summarizedStringLength();
+    for (int i = 0; i < 100; i++) {
+      Validator.reconfigure(b -> {
+      }, this.saved);
+      CyclicBarrier barrier = new CyclicBarrier(2);
+      Thread t1 = new Thread(() -> {
+        await(barrier);
+        Validator.reconfigure(b -> b.useEvaluator(!useEvaluator));
+      });
+      Thread t2 = new Thread(() -> {
+        await(barrier);
+        Validator.reconfigure(b -> b.summarizedStringLength(summarizedStringLength + 1));
+      });
+      t1.start();
+      t2.start();
+      t1.join();
+      t2.join();
+
+      assertThat(Validator.instance().configuration().useEvaluator(), is(!useEvaluator));
+      assertThat(Validator.instance().configuration().summarizedStringLength(), is(summarizedStringLength + 1));
+    }
+  }
+
+  @Test
+  public void givenBuilderPassedToReconfigure_whenModifiedAfterwards_thenPublishedConfigurationIsNotAffected() {
+    Validator.Configuration.Builder b = Validator.instance().configuration().parentBuilder();
+    Validator.reconfigure(v -> v.summarizedStringLength(123).useEvaluator(true), b);
+
+    b.summarizedStringLength(456).useEvaluator(false);
+
+    assertThat(Validator.instance().configuration().summarizedStringLength(), is(123));
+    assertThat(Validator.instance().configuration().useEvaluator(), is(true));
+    assertThat(Validator.instance().configuration().parentBuilder().build().summarizedStringLength(), is(123));
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void givenDeprecatedInstanceField_thenDelegatesToCurrentThreadValidator() throws InterruptedException {
+    assertThat(Validator.INSTANCE.get(), sameInstance(Validator.instance()));
+
+    Validator override = Validator.create(new Properties());
+    Validator.INSTANCE.set(override);
+    assertThat(Validator.instance(), sameInstance(override));
+    assertThat(instanceOnAnotherThread(), not(sameInstance(override)));
+
+    Validator.INSTANCE.remove();
+    assertThat(Validator.instance(), not(sameInstance(override)));
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await();
+    } catch (InterruptedException | BrokenBarrierException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static Validator instanceOnAnotherThread() throws InterruptedException {
+    AtomicReference<Validator> ret = new AtomicReference<>();
+    Thread thread = new Thread(() -> ret.set(Validator.instance()));
+    thread.start();
+    thread.join();
+    return ret.get();
+  }
+}